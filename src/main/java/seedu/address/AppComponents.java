@@ -0,0 +1,287 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The components of the application other than its UI: the config, storage, model and logic.
+ * Creating them loads no JavaFX UI classes, so they can be driven by either the GUI or the headless front-end.
+ */
+public class AppComponents {
+
+    public static final String MESSAGE_TRANSACTION_DISCARDED =
+            "Exiting during a transaction: its uncommitted changes are discarded.";
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Initializes the components from the config file at {@code configFilePath}, and the preference and data files
+     * it points to. The default config file is used if {@code configFilePath} is null.
+     * Long person lists filtered from the thread for which {@code isOnUiThread} is true are filtered in the
+     * background, and handed back to that thread through {@code uiThreadExecutor}.
+     */
+    public static AppComponents initialize(Path configFilePath, BooleanSupplier isOnUiThread,
+            Executor uiThreadExecutor) {
+        Config config = initConfig(configFilePath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs, isOnUiThread, uiThreadExecutor);
+
+        Logic logic = new LogicManager(model, storage);
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the data still waiting to be saved, and the user prefs.
+     * The changes of a transaction that has not been committed are not saved.
+     */
+    public void stop() {
+        if (model.isInTransaction()) {
+            logger.warning(MESSAGE_TRANSACTION_DISCARDED);
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format in {@code userPrefs}. <br>
+     * If the data file in the other format is newer, e.g. because the format was just changed, its contents are
+     * converted to the selected format first, so that no changes are lost when switching formats.
+     */
+    private static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBookStorage binaryAddressBookStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+
+        if (userPrefs.getAddressBookFileFormat() == DataFileFormat.BINARY) {
+            if (userPrefs.isAddressBookJournalEnabled()) {
+                logger.info("The data file journal is not used with the binary data file format.");
+            }
+            convertIfNewer(jsonAddressBookStorage, binaryAddressBookStorage);
+            return binaryAddressBookStorage;
+        }
+
+        if (userPrefs.isAddressBookJournalEnabled() && userPrefs.isAddressBookPublishingEnabled()) {
+            // The journal records changes as they are made to the address book, but only published copies are saved
+            logger.info("The data file journal is not used when the address book is published.");
+        } else if (userPrefs.isAddressBookJournalEnabled()) {
+            JournaledAddressBookStorage journaledAddressBookStorage =
+                    new JournaledAddressBookStorage(jsonAddressBookStorage);
+            convertIfNewer(binaryAddressBookStorage, journaledAddressBookStorage);
+            return journaledAddressBookStorage;
+        }
+        convertIfNewer(binaryAddressBookStorage, jsonAddressBookStorage);
+        return jsonAddressBookStorage;
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target} if the data file of {@code source} was modified
+     * more recently than that of {@code target}, or {@code target} has no data file yet.
+     * Failures are logged and leave {@code target} as it was.
+     */
+    private static void convertIfNewer(AddressBookStorage source, AddressBookStorage target) {
+        Path sourcePath = source.getAddressBookFilePath();
+        Path targetPath = target.getAddressBookFilePath();
+        try {
+            if (!FileUtil.isFileExists(sourcePath) || (FileUtil.isFileExists(targetPath)
+                    && Files.getLastModifiedTime(sourcePath).compareTo(Files.getLastModifiedTime(targetPath)) <= 0)) {
+                return;
+            }
+            Optional<ReadOnlyAddressBook> addressBookOptional = source.readAddressBook();
+            if (addressBookOptional.isPresent()) {
+                logger.info("Converting data file " + sourcePath + " to " + targetPath);
+                target.saveAddressBook(addressBookOptional.get());
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + sourcePath + " could not be converted to " + targetPath + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, BooleanSupplier isOnUiThread,
+            Executor uiThreadExecutor) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                initialData = initializeSampleAddressBook(storage);
+                return new ModelManager(initialData, userPrefs, isOnUiThread, uiThreadExecutor);
+            }
+            initialData = addressBookOptional.get();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            storage.backupFile();
+            initialData = new AddressBook();
+            try {
+                storage.saveAddressBook(initialData);
+            } catch (IOException ioe) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be saved.");
+            }
+        }
+        return new ModelManager(initialData, userPrefs, isOnUiThread, uiThreadExecutor);
+    }
+
+    private static ReadOnlyAddressBook initializeSampleAddressBook(Storage storage) {
+        logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                + " populated with a sample AddressBook.");
+        ReadOnlyAddressBook initialData = SampleDataUtil.getSampleAddressBook();
+        try {
+            storage.saveAddressBook(initialData);
+        } catch (IOException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be saved.");
+        }
+        return initialData;
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
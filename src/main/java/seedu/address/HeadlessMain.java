@@ -0,0 +1,126 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a GUI, executing each line of a script file, or of the standard input if no script
+ * file is given, as a command, and writing the feedback of each command to the standard output.
+ * No JavaFX UI classes are loaded, so it starts faster than the GUI and runs on machines without a display.
+ *
+ * Usage: {@code --headless [--config=CONFIG_FILE] [SCRIPT_FILE]}
+ */
+public class HeadlessMain {
+
+    public static final String HEADLESS_FLAG = "--headless";
+
+    /** Exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when any command failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** Exit status when the commands could not be read. */
+    public static final int EXIT_INPUT_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    /**
+     * Used to recognise named parameters, given in the same {@code --name=value} form as to the GUI.
+     */
+    private static final Pattern NAMED_PARAMETER_FORMAT = Pattern.compile("--(?<name>[^=]+)=(?<value>.*)");
+
+    public static void main(String[] args) {
+        long startTime = System.nanoTime();
+
+        Map<String, String> namedParameters = new HashMap<>();
+        Path scriptPath = null;
+        for (String arg : args) {
+            Matcher matcher = NAMED_PARAMETER_FORMAT.matcher(arg);
+            if (matcher.matches()) {
+                namedParameters.put(matcher.group("name"), matcher.group("value"));
+            } else if (!arg.equals(HEADLESS_FLAG)) {
+                scriptPath = Paths.get(arg);
+            }
+        }
+
+        // Commands run on the main thread, which is not a UI thread, so persons are always filtered right away
+        AppComponents components = AppComponents.initialize(AppParameters.parse(namedParameters).getConfigPath(),
+                () -> false, Runnable::run);
+        logger.info("Started headless in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+
+        int status;
+        try (BufferedReader in = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : Files.newBufferedReader(scriptPath)) {
+            status = run(components.getLogic(), in, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println("Could not read commands: " + e.getMessage());
+            logger.severe("Could not read commands " + StringUtil.getDetails(e));
+            status = EXIT_INPUT_ERROR;
+        } finally {
+            if (components.getModel().isInTransaction()) {
+                System.err.println(AppComponents.MESSAGE_TRANSACTION_DISCARDED);
+            }
+            components.stop();
+        }
+        System.exit(status);
+    }
+
+    /**
+     * Executes each line read from {@code in} as a command, until the input ends or a command asks to exit.
+     * The feedback of each command that succeeds is written to {@code out}, and the error of each command that fails
+     * to {@code err}, after which the remaining commands are still executed. Blank lines are skipped.
+     * A failure to save the address book is also written to {@code err} as soon as it happens.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded and every save was written, or
+     *     {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if the commands could not be read.
+     */
+    static int run(Logic logic, BufferedReader in, PrintStream out, PrintStream err) throws IOException {
+        AtomicBoolean hasSaveFailed = new AtomicBoolean();
+        logic.setSaveFailureHandler(message -> {
+            err.println(message);
+            hasSaveFailed.set(true);
+        });
+        boolean hasFailed = false;
+        String commandText;
+        while ((commandText = in.readLine()) != null) {
+            if (commandText.isBlank()) {
+                continue;
+            }
+            long commandStartTime = System.nanoTime();
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                hasFailed = true;
+            } finally {
+                logger.fine("Executed in " + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - commandStartTime)
+                        + " us: " + commandText);
+            }
+        }
+        return hasFailed || hasSaveFailed.get() ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, stored at the configured data file path. */
+    JSON,
+    /** Compact binary snapshot, stored next to the configured data file path with a {@code .bin} extension. */
+    BINARY
+}
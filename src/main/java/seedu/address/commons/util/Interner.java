@@ -0,0 +1,40 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares a single instance among equal immutable values, so that values that repeat many times take the memory of
+ * one. Values are only held weakly, so an instance is forgotten once nothing else refers to it.
+ * Safe to use from several threads at once.
+ *
+ * @param <T> The type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the shared instance equal to {@code value}, which is {@code value} itself if there is none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance != null) {
+            return instance;
+        }
+        instances.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of shared instances that have not been forgotten yet.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
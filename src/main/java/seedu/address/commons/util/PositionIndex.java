@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps the position of each element of a list, so that an element can be found in the list without comparing it
+ * with every element before it. Elements are told apart by identity, or by a key given to each of them, and each
+ * must appear in the list only once.
+ * <p>
+ * The index must be told of every change to the list. Positions after an element is added or removed are only
+ * worked out again when one of them is next looked up, so a run of changes renumbers the rest of the list once
+ * rather than after every change.
+ *
+ * @param <E> The type of the elements of the list.
+ */
+public class PositionIndex<E> {
+
+    private final List<E> list;
+    private final Function<? super E, ?> keyOf;
+    private final Map<Object, Integer> positions;
+    // The positions of the elements before this one are up to date
+    private int validPositions;
+
+    /**
+     * Creates an index of the positions in {@code list}, which is the list it must be told of the changes to.
+     */
+    public PositionIndex(List<E> list) {
+        this(list, Function.identity(), new IdentityHashMap<>());
+    }
+
+    /**
+     * Creates an index of the positions in {@code list} that tells elements apart by the keys {@code keyOf} gives
+     * them, so that an element is also found at the position of another element with an equal key.
+     */
+    public PositionIndex(List<E> list, Function<? super E, ?> keyOf) {
+        this(list, keyOf, new HashMap<>());
+    }
+
+    private PositionIndex(List<E> list, Function<? super E, ?> keyOf, Map<Object, Integer> positions) {
+        requireNonNull(list);
+        requireNonNull(keyOf);
+        this.list = list;
+        this.keyOf = keyOf;
+        this.positions = positions;
+    }
+
+    /**
+     * Returns the position of {@code element} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(E element) {
+        requireNonNull(element);
+        Object key = keyOf.apply(element);
+        Integer position = positions.get(key);
+        if (position == null || position >= validPositions) {
+            renumber();
+            position = positions.get(key);
+        }
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Records that the elements {@code removed} at {@code from} in the list have been, or are about to be, replaced
+     * by the elements {@code added}.
+     */
+    public void replaced(int from, List<? extends E> removed, List<? extends E> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        removed.forEach(element -> positions.remove(keyOf.apply(element)));
+        if (removed.size() != added.size()) {
+            // The elements after them move, so they are renumbered when next looked up
+            validPositions = Math.min(validPositions, from);
+            return;
+        }
+        for (int i = 0; i < added.size(); i++) {
+            positions.put(keyOf.apply(added.get(i)), from + i);
+        }
+    }
+
+    /**
+     * Records that the whole list has been, or is about to be, replaced.
+     */
+    public void reset() {
+        positions.clear();
+        validPositions = 0;
+    }
+
+    private void renumber() {
+        for (int i = validPositions; i < list.size(); i++) {
+            positions.put(keyOf.apply(list.get(i)), i);
+        }
+        validPositions = list.size();
+    }
+}
@@ -5,13 +5,23 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Collator COLLATOR = Collator.getInstance(Locale.ROOT);
+
+    static {
+        // Letters that differ only in case sort together, while accented letters still sort apart
+        COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +48,66 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the number of single
+     * character insertions, deletions and substitutions needed to turn one into the other.
+     * Stops as soon as the distance is known to exceed {@code maxDistance}, in which case {@code maxDistance + 1}
+     * is returned.
+     *   <br>examples:<pre>
+     *       editDistance("kitten", "sitting", 5) == 3
+     *       editDistance("kitten", "sitting", 2) == 3 //exceeds the maximum
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[second.length()], maxDistance + 1);
+    }
+
+    /**
+     * Returns a key that sorts {@code value} alphabetically among the keys of other strings, ignoring case.
+     * Comparing two keys is much cheaper than comparing the strings with a {@link Collator}, so keys are worth
+     * keeping for strings that are sorted often.
+     *   <br>examples:<pre>
+     *       getCollationKey("alice").compareTo(getCollationKey("Bob")) &lt; 0
+     *       getCollationKey("ALICE").compareTo(getCollationKey("alice")) == 0
+     *       </pre>
+     * @param value cannot be null
+     */
+    public static CollationKey getCollationKey(String value) {
+        requireNonNull(value);
+        return COLLATOR.getCollationKey(value);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
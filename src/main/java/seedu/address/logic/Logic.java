@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be given the error message of each failure to save the address book in the background,
+     * as soon as the save fails. The handler is called on the thread that saved the address book.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Returns the number of times saving the address book was skipped because it had not changed since the last save.
+     */
+    int getSkippedSaveCount();
+
     /**
      * Returns the AddressBook.
      *
@@ -1,8 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +15,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,12 +33,27 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_EXIT_WITH_UNSAVED_CHANGES =
+            "%s\nEnter exit again to exit without saving the latest changes.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    private long requestedRevision;
+    // The result of the last save requested from storage, which returns the same result for saves it merges
+    private CompletableFuture<Void> lastSaveResult = CompletableFuture.completedFuture(null);
+    // Completes once a failure of the last save has been reported
+    private CompletableFuture<Void> lastSave = lastSaveResult;
+    private int skippedSaveCount;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+    // Set while an exit command waits for the last save, which then reports its own failure
+    private volatile boolean isExiting;
+    // The revision that could not be saved when exiting was last refused, or -1 if it has not been
+    private long refusedExitRevision = -1;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,33 +61,132 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        requestedRevision = model.getRevision();
     }
 
-    private void saveModel() throws CommandException {
+    /**
+     * Starts saving the address book again if the last save failed, or if a command that failed midway left changes
+     * unsaved. A failure is reported to the save failure handler, so the command about to be executed does not fail
+     * because of an earlier save. Nothing is saved during a transaction.
+     */
+    private void saveUnsavedChanges() {
+        if (model.isInTransaction()) {
+            return;
+        }
+        if (model.getRevision() != requestedRevision || lastSaveResult.isCompletedExceptionally()) {
+            startSave();
+        }
+    }
+
+    /**
+     * Starts saving the address book in the background if it has been modified since the last save was requested.
+     * Nothing is saved during a transaction, so that its changes are saved together once it is committed.
+     */
+    private void saveModelIfChanged() {
+        if (model.isInTransaction()) {
+            return;
+        }
+        if (model.getRevision() == requestedRevision) {
+            skippedSaveCount++;
+            return;
+        }
+        startSave();
+    }
+
+    /**
+     * Starts saving the published copy of the address book if there is one, which storage can write as it is, and
+     * otherwise the address book itself, which storage copies first.
+     * A save merged by storage into the one still queued shares its result, so its failure is reported only once.
+     */
+    private void startSave() {
+        requestedRevision = model.getRevision();
+        ReadOnlyAddressBook addressBook = model.getPublishedAddressBook().orElse(model.getAddressBook());
+        CompletableFuture<Void> saveResult = storage.saveAddressBookAsync(addressBook);
+        if (saveResult == lastSaveResult) {
+            return;
+        }
+        lastSaveResult = saveResult;
+        lastSave = saveResult.whenComplete((unused, failure) -> {
+            if (failure != null && !isExiting) {
+                saveFailureHandler.accept(getSaveFailureMessage(failure));
+            }
+        });
+    }
+
+    /**
+     * Waits for the last save to complete before the application exits. If it failed, exiting is refused once, so
+     * that the user is told that the latest changes are not saved before they are lost.
+     */
+    private void awaitLastSaveBeforeExit() throws CommandException {
+        isExiting = true;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            lastSave.join();
+        } catch (CompletionException e) {
+            if (refusedExitRevision == requestedRevision) {
+                return;
+            }
+            refusedExitRevision = requestedRevision;
+            throw new CommandException(String.format(MESSAGE_EXIT_WITH_UNSAVED_CHANGES,
+                    getSaveFailureMessage(e)), e.getCause());
+        } finally {
+            isExiting = false;
+        }
+    }
+
+    private static String getSaveFailureMessage(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, cause.getMessage());
         }
+        return String.format(FILE_OPS_ERROR_FORMAT, cause.getMessage());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        saveModel();
+        saveUnsavedChanges();
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // Committed even if the command failed midway, so that what it did change can be undone
+            model.commitAddressBook();
+        }
 
-        saveModel();
+        saveModelIfChanged();
+        if (commandResult.getExportPath().isPresent()) {
+            exportAddressBook(commandResult.getExportPath().get());
+        }
+        if (commandResult.isExit()) {
+            awaitLastSaveBeforeExit();
+        }
 
         return commandResult;
     }
 
+    private void exportAddressBook(Path exportPath) throws CommandException {
+        try {
+            storage.exportAddressBook(model.getAddressBook(), exportPath);
+        } catch (IOException ioe) {
+            logger.warning("I/O exception during export: " + ioe.getMessage());
+            throw new CommandException(String.format(ExportCommand.MESSAGE_IO_FAILURE, exportPath), ioe);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
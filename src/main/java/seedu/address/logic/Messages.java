@@ -17,6 +17,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX =
             "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_PERSONS_BEING_LISTED = "Listing the matching persons...";
+    public static final String MESSAGE_NOT_IN_TRANSACTION =
+            "The %1$s command cannot be used during a transaction. Enter commit or rollback first.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
 
@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -79,16 +78,10 @@ public class AddStudentToTeamCommand extends Command {
         }
 
         try {
-            Person updatedPerson = new Person(
-                    targetPerson.getName(),
-                    targetPerson.getPhone(),
-                    targetPerson.getEmail(),
-                    targetPerson.getGithub(),
-                    targetTeam);
+            Person updatedPerson = targetPerson.withTeam(targetTeam);
 
             model.addPersonToTeam(updatedPerson, targetTeam);
             model.setPerson(targetPerson, updatedPerson);
-            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
             return new CommandResult(String.format(MESSAGE_SUCCESS,
                     Messages.format(updatedPerson), teamName));
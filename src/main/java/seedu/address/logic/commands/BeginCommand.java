@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts a transaction, so that the changes made by the following commands are only saved once it is committed.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+    public static final String MESSAGE_SUCCESS = "Transaction started. "
+            + "Changes will be saved when you enter commit, or discarded when you enter rollback.";
+    public static final String MESSAGE_ALREADY_STARTED = "A transaction has already been started";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_ALREADY_STARTED);
+        }
+
+        model.beginTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,13 +21,24 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The address book should be exported to this file, or null if it should not be exported. */
+    private final Path exportPath;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, Path exportPath) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.exportPath = exportPath;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, which does not export the address book.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, null);
     }
 
     /**
@@ -48,6 +61,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<Path> getExportPath() {
+        return Optional.ofNullable(exportPath);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +79,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(exportPath, otherCommandResult.exportPath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, exportPath);
     }
 
     @Override
@@ -76,6 +94,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("exportPath", exportPath)
                 .toString();
     }
 
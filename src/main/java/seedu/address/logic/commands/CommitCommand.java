@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Commits the transaction, so that the changes made during it are saved together.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+    public static final String MESSAGE_SUCCESS = "Transaction committed. Its changes have been saved.";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction to commit";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isInTransaction()) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+
+        model.commitTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
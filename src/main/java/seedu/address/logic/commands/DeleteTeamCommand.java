@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -55,7 +54,8 @@ public class DeleteTeamCommand extends Command {
             throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamName));
         }
 
-        List<Person> persons = model.getFilteredPersonList().stream()
+        // Members hidden by the current filter must leave the team too
+        List<Person> persons = model.getAddressBook().getPersonList().stream()
                 .filter(p -> p.getTeam().equals(targetTeam))
                 .collect(Collectors.toList());
 
@@ -63,7 +63,6 @@ public class DeleteTeamCommand extends Command {
 
         model.setPersonsTeamToNone(persons);
         model.deleteTeam(targetTeam);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, teamName));
     }
@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 import java.util.Objects;
@@ -22,7 +21,6 @@ import seedu.address.model.person.Github;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.team.Team;
 
 /**
  * Edits the details of an existing person in the address book.
@@ -78,7 +76,6 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(
                 String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
@@ -95,9 +92,8 @@ public class EditCommand extends Command {
         Phone updatedPhone = editPersonDescriptor.getPhone().orElse(personToEdit.getPhone());
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Github updatedGithub = editPersonDescriptor.getGithub().orElse(personToEdit.getGithub());
-        Team previousTeam = personToEdit.getTeam();
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedGithub, previousTeam);
+        return personToEdit.withDetails(updatedName, updatedPhone, updatedEmail, updatedGithub);
     }
 
     @Override
@@ -1,9 +1,13 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Terminates the program.
+ * Terminates the program. It cannot be used during a transaction, whose uncommitted changes would otherwise be lost.
  */
 public class ExitCommand extends Command {
 
@@ -12,7 +16,13 @@ public class ExitCommand extends Command {
     public static final String MESSAGE_EXIT_ACKNOWLEDGEMENT = "Exiting Address Book as requested ...";
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.isInTransaction()) {
+            throw new CommandException(String.format(Messages.MESSAGE_NOT_IN_TRANSACTION, COMMAND_WORD));
+        }
+
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.query.Query;
+
+/**
+ * Shows how the persons matching a query would be found, without changing the displayed list.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how the students matching a query would be "
+            + "found, including the indexes used and the number of students each step matches.\n"
+            + QueryCommand.QUERY_SYNTAX
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " team:F12-3 AND NOT name:Alice";
+
+    public static final String MESSAGE_SUCCESS = "Query plan:\n%1$s";
+
+    private final Query query;
+
+    public ExplainCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                String.join("\n", query.explain(model.getPersonSearchIndex()))));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand)) {
+            return false;
+        }
+
+        ExplainCommand otherExplainCommand = (ExplainCommand) other;
+        return query.equals(otherExplainCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -8,7 +8,6 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -17,6 +16,8 @@ import seedu.address.model.Model;
 
 /**
  * Exports the address book data to a specified JSON file.
+ * The command only works out the file to export to; the file is written by the storage component once the command
+ * has been executed.
  */
 public class ExportCommand extends Command {
 
@@ -89,14 +90,8 @@ public class ExportCommand extends Command {
         try {
             exportPath = prepareParentPath();
             exportPath = appendPath(exportPath);
-            // Write JSON data
-            Files.copy(model.getAddressBookFilePath(), exportPath,
-                    StandardCopyOption.REPLACE_EXISTING);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, exportPath));
-
-        } catch (IOException e) {
-            logger.warning("I/O exception during export: " + e.getMessage());
-            throw new CommandException(String.format(MESSAGE_IO_FAILURE, exportPath));
+            return new CommandResult(String.format(MESSAGE_SUCCESS, exportPath), false, false, exportPath);
+
         } catch (InvalidPathException e) {
             logger.warning("Invalid path specified for export: " + e.getMessage());
             throw new CommandException(String.format(MESSAGE_PATH_FAILURE, filePath));
@@ -2,13 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name, GitHub username or team matches the argument keywords.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -16,10 +19,22 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds students whose names contain any "
-            + "of the specified keywords or who belong in any of the specified teams (case-insensitive) "
+            + "of the specified keywords, whose GitHub usernames match any of the specified usernames, "
+            + "or who belong in any of the specified teams (case-insensitive) "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: n/[NAMES] t/[TEAM_NAMES]\n"
-            + "Example: " + COMMAND_WORD + " n/Alice Bobby t/F12-3";
+            + "Names and GitHub usernames match whole words by default, or their starts with m/prefix, "
+            + "or any part of them with m/partial, "
+            + "or words within d/ typing mistakes of them with m/fuzzy, closest first.\n"
+            + "Parameters: n/[NAMES] g/[GITHUB_USERNAMES] t/[TEAM_NAMES] m/[word|prefix|partial|fuzzy] "
+            + "d/[MAX_MISTAKES]\n"
+            + "Example: " + COMMAND_WORD + " n/Alice Bobby t/F12-3\n"
+            + "Example: " + COMMAND_WORD + " n/Chris m/prefix\n"
+            + "Example: " + COMMAND_WORD + " n/Alcie m/fuzzy d/2";
+
+    public static final String MESSAGE_INVALID_MATCH_MODE =
+            "Match mode should be one of word, prefix, partial or fuzzy.";
+    public static final String MESSAGE_INVALID_MAX_DISTANCE = "The number of typing mistakes allowed should be "
+            + "from 0 to " + NameContainsKeywordsPredicate.MAX_EDIT_DISTANCE + ", and can only be given with m/fuzzy.";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -30,7 +45,15 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Predicate<Person> indexedPredicate = predicate.using(model.getPersonSearchIndex());
+        if (predicate.isRanked()) {
+            model.updateFilteredPersonList(indexedPredicate, predicate.getRanking());
+        } else {
+            model.updateFilteredPersonList(indexedPredicate);
+        }
+        if (model.isFilteringPersons()) {
+            return new CommandResult(Messages.MESSAGE_PERSONS_BEING_LISTED);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
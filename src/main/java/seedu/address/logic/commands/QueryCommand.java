@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.query.Query;
+
+/**
+ * Finds and lists all persons in address book who match a query on their fields.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String QUERY_SYNTAX = "Clauses are written FIELD:VALUE, where FIELD is one of "
+            + "name (a whole word of the name), email, domain (of the email), phone (start of the number), "
+            + "github, team or slot (a team name pattern, where * matches anything and ? matches one character). "
+            + "Clauses can be combined with AND, OR, NOT and parentheses; "
+            + "clauses next to each other must all match.\n";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds students who match the query "
+            + "and displays them as a list with index numbers.\n"
+            + QUERY_SYNTAX
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " domain:u.nus.edu AND (slot:F12-? OR phone:9) AND NOT team:F12-3";
+
+    private final Query query;
+
+    public QueryCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(query.using(model.getPersonSearchIndex()));
+        if (model.isFilteringPersons()) {
+            return new CommandResult(Messages.MESSAGE_PERSONS_BEING_LISTED);
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
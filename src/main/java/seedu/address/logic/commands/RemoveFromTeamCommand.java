@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -60,16 +59,10 @@ public class RemoveFromTeamCommand extends Command {
         // Remove person from team
         model.removePersonFromTeam(targetPerson, targetTeam);
 
-        // Update the person's team to NONE by finding them by email
-        Person updatedPerson = new Person(
-                targetPerson.getName(),
-                targetPerson.getPhone(),
-                targetPerson.getEmail(),
-                targetPerson.getGithub(),
-                Team.NONE);
+        // Update the person's team to NONE
+        Person updatedPerson = targetPerson.withTeam(Team.NONE);
 
         model.setPerson(targetPerson, updatedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 Messages.format(updatedPerson), teamName));
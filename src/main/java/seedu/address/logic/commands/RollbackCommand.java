@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Rolls back the transaction, discarding the changes made during it.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+    public static final String MESSAGE_SUCCESS = "Transaction rolled back. Its changes have been discarded.";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction to roll back";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isInTransaction()) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+
+        model.rollbackTransaction();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
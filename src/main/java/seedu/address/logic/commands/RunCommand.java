@@ -0,0 +1,191 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file as one batch.
+ * Every line is parsed before any command is executed, and if any command fails, the changes made by the commands
+ * before it are rolled back, so the address book is either changed by the whole script or not at all. Since the batch
+ * is a single command, the address book is saved once after it rather than after every command in it.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "setup.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s in %3$d ms (%4$d commands/s)";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The specified script file does not exist: %1$s";
+    public static final String MESSAGE_IO_FAILURE = "I/O error occurred while reading the script file: %1$s";
+    public static final String MESSAGE_PATH_FAILURE = "The specified file path is invalid: %1$s";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_PARSE_FAILURE =
+            "The script was not run, as some of its lines are invalid:\n%1$s";
+    public static final String MESSAGE_EXECUTION_FAILURE = "%1$s\nThe script was stopped, and none of its changes "
+            + "were kept.";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "The %1$s command cannot be used in a script";
+
+    /**
+     * Words of commands that would break up the batch, or that leave work to be done once they have been executed,
+     * so they cannot be used in a script.
+     */
+    private static final List<String> COMMAND_WORDS_NOT_IN_SCRIPT =
+            List.of(COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, BeginCommand.COMMAND_WORD,
+                    CommitCommand.COMMAND_WORD, RollbackCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD);
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final String filePath;
+
+    /**
+     * Creates a RunCommand to run the script at the specified file path.
+     */
+    public RunCommand(String filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            // A failing script rolls back every change made since the last commit, so would end the transaction
+            throw new CommandException(String.format(Messages.MESSAGE_NOT_IN_TRANSACTION, COMMAND_WORD));
+        }
+        Path scriptPath = prepareScriptPath();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException e) {
+            logger.warning("Failed to read script file " + scriptPath + ": " + e.getMessage());
+            throw new CommandException(String.format(MESSAGE_IO_FAILURE, scriptPath));
+        }
+
+        List<ScriptLine> script = parse(lines);
+
+        long startTime = System.nanoTime();
+        for (ScriptLine line : script) {
+            try {
+                line.command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.rollbackAddressBook();
+                logger.info("Rolled back script " + scriptPath + " after line " + line.number + " failed");
+                throw new CommandException(String.format(MESSAGE_EXECUTION_FAILURE,
+                        String.format(MESSAGE_LINE_ERROR, line.number, e.getMessage())), e);
+            }
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+
+        long commandsPerSecond = script.size() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, script.size(), scriptPath,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond));
+    }
+
+    private Path prepareScriptPath() throws CommandException {
+        Path scriptPath;
+        try {
+            scriptPath = Paths.get(filePath);
+        } catch (InvalidPathException e) {
+            throw new CommandException(String.format(MESSAGE_PATH_FAILURE, filePath));
+        }
+        if (!scriptPath.isAbsolute()) {
+            scriptPath = Paths.get("data").resolve(scriptPath).toAbsolutePath();
+        }
+        if (!Files.isRegularFile(scriptPath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, scriptPath));
+        }
+        return scriptPath;
+    }
+
+    /**
+     * Parses every command in {@code lines}, skipping blank lines and comments.
+     *
+     * @throws CommandException listing the error in every line that could not be parsed, if there are any.
+     */
+    private static List<ScriptLine> parse(List<String> lines) throws CommandException {
+        AddressBookParser parser = new AddressBookParser();
+        List<ScriptLine> script = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            String commandWord = line.split("\\s+", 2)[0].toLowerCase();
+            if (COMMAND_WORDS_NOT_IN_SCRIPT.contains(commandWord)) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber,
+                        String.format(MESSAGE_NOT_IN_SCRIPT, commandWord)));
+                continue;
+            }
+            try {
+                script.add(new ScriptLine(lineNumber, parser.parseCommand(line)));
+            } catch (ParseException e) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_PARSE_FAILURE, String.join("\n", errors)));
+        }
+        return script;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A command in the script, with the number of the line it is on.
+     */
+    private static class ScriptLine {
+        private final int number;
+        private final Command command;
+
+        private ScriptLine(int number, Command command) {
+            this.number = number;
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Sorts the displayed list of persons by one or more of their fields.
+ * The order is kept as persons are found, added, edited and deleted, until another order is given.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String ADDED_ORDER_KEYWORD = "added";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed students by the given fields. "
+            + "Each field is one of name, email, team or github, optionally followed by :asc (the default) or :desc. "
+            + "Students with the same value for a field are sorted by the next field. "
+            + "Use " + ADDED_ORDER_KEYWORD + " instead of fields to list students in the order they were added.\n"
+            + "Parameters: FIELD[:asc|:desc] [MORE_FIELDS]...\n"
+            + "Example: " + COMMAND_WORD + " team name:desc";
+
+    public static final String MESSAGE_SUCCESS = "Sorted students by %1$s";
+
+    private final PersonSortOrder sortOrder;
+
+    public SortCommand(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(sortOrder);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder.getDescription()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
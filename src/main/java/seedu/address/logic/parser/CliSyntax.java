@@ -12,5 +12,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TEAM = new Prefix("t/");
     public static final Prefix PREFIX_GITHUB = new Prefix("g/");
     public static final Prefix PREFIX_FILE = new Prefix("f/");
+    public static final Prefix PREFIX_MATCH_MODE = new Prefix("m/");
+    public static final Prefix PREFIX_MAX_DISTANCE = new Prefix("d/");
 
 }
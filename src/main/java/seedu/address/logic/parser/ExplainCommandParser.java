@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExplainCommand object.
+ */
+public class ExplainCommandParser implements Parser<ExplainCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExplainCommand
+     * and returns an ExplainCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExplainCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        }
+        return new ExplainCommand(QueryCommandParser.parseQuery(args));
+    }
+
+}
@@ -1,16 +1,21 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_MODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_DISTANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex.MatchMode;
 import seedu.address.model.team.Team;
 
 /**
@@ -24,18 +29,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TEAM);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TEAM);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_GITHUB, PREFIX_TEAM, PREFIX_MATCH_MODE,
+                        PREFIX_MAX_DISTANCE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_GITHUB, PREFIX_TEAM, PREFIX_MATCH_MODE,
+                PREFIX_MAX_DISTANCE);
 
-        List<String> nameKeywords = argMultimap.getAllValues(PREFIX_NAME).stream()
-                .flatMap(s -> Arrays.stream(s.trim().split("\\s+")))
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
-
-        List<String> teamKeywords = argMultimap.getAllValues(PREFIX_TEAM).stream()
-                .flatMap(s -> Arrays.stream(s.trim().split("\\s+")))
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        List<String> nameKeywords = getKeywords(argMultimap, PREFIX_NAME);
+        List<String> githubKeywords = getKeywords(argMultimap, PREFIX_GITHUB);
+        List<String> teamKeywords = getKeywords(argMultimap, PREFIX_TEAM);
 
         List<String> invalidTeams = teamKeywords.stream()
                 .filter(teamName -> !Team.isValidName(teamName))
@@ -46,12 +48,42 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.join(", ", invalidTeams), Team.MESSAGE_CONSTRAINTS));
         }
 
-        if (nameKeywords.isEmpty() && teamKeywords.isEmpty()) {
+        if (nameKeywords.isEmpty() && githubKeywords.isEmpty() && teamKeywords.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords, teamKeywords));
+        MatchMode mode = parseMatchMode(argMultimap.getValue(PREFIX_MATCH_MODE).orElse(MatchMode.WORD.name()));
+        int maxDistance = NameContainsKeywordsPredicate.LENGTH_BASED_MAX_DISTANCE;
+        if (argMultimap.getValue(PREFIX_MAX_DISTANCE).isPresent()) {
+            maxDistance = parseMaxDistance(argMultimap.getValue(PREFIX_MAX_DISTANCE).get(), mode);
+        }
+        return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords, githubKeywords, teamKeywords, mode,
+                maxDistance));
+    }
+
+    private static List<String> getKeywords(ArgumentMultimap argMultimap, Prefix prefix) {
+        return argMultimap.getAllValues(prefix).stream()
+                .flatMap(s -> Arrays.stream(s.trim().split("\\s+")))
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static MatchMode parseMatchMode(String mode) throws ParseException {
+        try {
+            return MatchMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_MATCH_MODE);
+        }
+    }
+
+    private static int parseMaxDistance(String maxDistance, MatchMode mode) throws ParseException {
+        String trimmedMaxDistance = maxDistance.trim();
+        if (mode != MatchMode.FUZZY || !trimmedMaxDistance.matches("\\d")
+                || Integer.parseInt(trimmedMaxDistance) > NameContainsKeywordsPredicate.MAX_EDIT_DISTANCE) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_MAX_DISTANCE);
+        }
+        return Integer.parseInt(trimmedMaxDistance);
     }
 
 }
@@ -0,0 +1,163 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.Query;
+import seedu.address.model.person.query.QueryField;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s. Fields are %2$s.";
+    public static final String MESSAGE_INVALID_CLAUSE = "Query clauses should be written FIELD:VALUE, but got: %1$s";
+    public static final String MESSAGE_UNEXPECTED_END = "The query ended early, after: %1$s";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in the query.";
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()]+");
+    private static final Pattern CLAUSE_FORMAT = Pattern.compile("(?<field>[^:]+):(?<value>.+)");
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        return new QueryCommand(parseQuery(args));
+    }
+
+    /**
+     * Parses {@code args} into a {@code Query}, in which NOT binds tightest, then AND, then OR.
+     * @throws ParseException if {@code args} is not a valid query
+     */
+    public static Query parseQuery(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(args);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+
+        QueryReader reader = new QueryReader(tokens);
+        Query query = reader.readOr();
+        if (reader.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, reader.next()));
+        }
+        return query;
+    }
+
+    /**
+     * Reads a query from a list of tokens by recursive descent.
+     */
+    private static class QueryReader {
+        private final List<String> tokens;
+        private int position;
+
+        QueryReader(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+
+        private boolean isNext(String token) {
+            return hasNext() && tokens.get(position).equalsIgnoreCase(token);
+        }
+
+        private boolean isNextOperand() {
+            return hasNext() && !isNext(OR) && !isNext(AND) && !isNext(")");
+        }
+
+        Query readOr() throws ParseException {
+            List<Query> operands = new ArrayList<>();
+            operands.add(readAnd());
+            while (isNext(OR)) {
+                next();
+                operands.add(readAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+        }
+
+        private Query readAnd() throws ParseException {
+            List<Query> operands = new ArrayList<>();
+            operands.add(readNot());
+            while (isNext(AND) || isNextOperand()) {
+                if (isNext(AND)) {
+                    next();
+                }
+                operands.add(readNot());
+            }
+            return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+        }
+
+        private Query readNot() throws ParseException {
+            if (!hasNext()) {
+                String readSoFar = String.join(" ", tokens);
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_END, readSoFar));
+            }
+
+            String token = next();
+            if (token.equalsIgnoreCase(NOT)) {
+                return new NotQuery(readNot());
+            }
+            if (token.equals("(")) {
+                Query query = readOr();
+                if (!isNext(")")) {
+                    throw new ParseException(hasNext()
+                            ? String.format(MESSAGE_UNEXPECTED_TOKEN, next())
+                            : String.format(MESSAGE_UNEXPECTED_END, String.join(" ", tokens)));
+                }
+                next();
+                return query;
+            }
+            if (token.equals(")") || token.equalsIgnoreCase(AND) || token.equalsIgnoreCase(OR)) {
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+            }
+            return parseClause(token);
+        }
+    }
+
+    private static FieldQuery parseClause(String token) throws ParseException {
+        Matcher matcher = CLAUSE_FORMAT.matcher(token);
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_CLAUSE, token));
+        }
+
+        QueryField field = QueryField.fromName(matcher.group("field"));
+        if (field == null) {
+            String fieldNames = Arrays.stream(QueryField.values())
+                    .map(QueryField::getName)
+                    .collect(Collectors.joining(", "));
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, matcher.group("field"), fieldNames));
+        }
+        return new FieldQuery(field, matcher.group("value"));
+    }
+
+}
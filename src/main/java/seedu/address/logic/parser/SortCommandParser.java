@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Field;
+import seedu.address.model.person.PersonSortOrder.Key;
+
+/**
+ * Parses input arguments and creates a new SortCommand object.
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Students cannot be sorted by '%1$s'. "
+            + "Fields are name, email, team and github.";
+    public static final String MESSAGE_UNKNOWN_DIRECTION = "Unknown sort direction '%1$s'. Use asc or desc.";
+    public static final String MESSAGE_DUPLICATE_FIELD = "Students can only be sorted by %1$s once.";
+
+    private static final String DIRECTION_SEPARATOR = ":";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        if (trimmedArgs.equalsIgnoreCase(SortCommand.ADDED_ORDER_KEYWORD)) {
+            return new SortCommand(PersonSortOrder.ADDED);
+        }
+
+        List<Key> keys = new ArrayList<>();
+        Set<Field> fields = EnumSet.noneOf(Field.class);
+        for (String token : trimmedArgs.split("\\s+")) {
+            Key key = parseKey(token);
+            if (!fields.add(key.getField())) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_FIELD, key.getField().getName()));
+            }
+            keys.add(key);
+        }
+        return new SortCommand(new PersonSortOrder(keys));
+    }
+
+    /**
+     * Parses a {@code FIELD[:asc|:desc]} token into a sort key.
+     */
+    private static Key parseKey(String token) throws ParseException {
+        int separator = token.indexOf(DIRECTION_SEPARATOR);
+        String fieldName = separator < 0 ? token : token.substring(0, separator);
+        Field field = Field.fromName(fieldName);
+        if (field == null) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, fieldName));
+        }
+        if (separator < 0) {
+            return new Key(field, false);
+        }
+
+        String direction = token.substring(separator + 1);
+        if (direction.equalsIgnoreCase("asc")) {
+            return new Key(field, false);
+        } else if (direction.equalsIgnoreCase("desc")) {
+            return new Key(field, true);
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_DIRECTION, direction));
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.UniqueTeamList;
@@ -115,10 +116,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
-        for (Team team : teams) {
-            if (team.hasPerson(target)) {
-                team.setPerson(target, editedPerson);
-            }
+        Team team = teams.getTeamContainingPerson(target);
+        if (team != null) {
+            team.setPerson(target, editedPerson);
         }
     }
 
@@ -128,13 +128,27 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
-        for (Team team : teams) {
-            if (team.hasPerson(key)) {
-                team.removePerson(key);
-            }
+        Team team = teams.getTeamContainingPerson(key);
+        if (team != null) {
+            team.removePerson(key);
         }
     }
 
+    /**
+     * Replaces the persons from {@code from} up to {@code to} in the person list with {@code replacement}, without
+     * changing any team. Only for restoring an earlier state of the address book.
+     */
+    void replacePersons(int from, int to, List<Person> replacement) {
+        persons.replace(from, to, replacement);
+    }
+
+    /**
+     * Returns the index for looking up persons in the address book by name word or team name.
+     */
+    public PersonSearchIndex getPersonSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
     //// team-level operations
 
     /**
@@ -188,6 +202,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         teams.remove(key);
     }
 
+    /**
+     * Replaces the teams from {@code from} up to {@code to} in the team list with {@code replacement}.
+     * Only for restoring an earlier state of the address book.
+     */
+    void replaceTeams(int from, int to, List<Team> replacement) {
+        teams.replace(from, to, replacement);
+    }
+
     /**
      * Returns the team that contains the given person.
      * Returns null if the person is not in any team.
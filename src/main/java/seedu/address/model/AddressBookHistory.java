@@ -0,0 +1,271 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Records the changes made to an address book, grouped into steps that can be undone and redone.
+ * Each change to the person list, the team list or the member list of a team is recorded as it happens, as the
+ * position it was made at with the elements it removed and added, so undoing or redoing a step takes time in
+ * proportion to the changes it made rather than to the size of the address book.
+ * At most {@code maxSteps} steps are kept, and older steps are dropped once the steps together hold more than
+ * {@code maxRetainedElements} elements, though the latest step is always kept.
+ */
+class AddressBookHistory {
+
+    private final AddressBook addressBook;
+    private final int maxSteps;
+    private final int maxRetainedElements;
+
+    // Most recent steps first
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<Edit<?>> pendingChanges = new ArrayList<>();
+    private int retainedElements;
+    private boolean isRestoring;
+    private final Map<Team, MemberRecorder> memberRecorders = new IdentityHashMap<>();
+
+    /**
+     * Creates a history of the changes made to {@code addressBook} from now on.
+     */
+    AddressBookHistory(AddressBook addressBook, int maxSteps, int maxRetainedElements) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.maxSteps = maxSteps;
+        this.maxRetainedElements = maxRetainedElements;
+        addressBook.getTeamList().forEach(this::recordMembers);
+        addressBook.getPersonList().addListener(this::onPersonListChanged);
+        addressBook.getTeamList().addListener(this::onTeamListChanged);
+    }
+
+    /**
+     * Ends the current step, so that the changes made since the last step can be undone together.
+     * A step without changes is not kept, and a step with changes cannot be followed by a redo.
+     */
+    void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        Step step = new Step(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        retainedElements -= redoSteps.stream().mapToInt(Step::size).sum();
+        redoSteps.clear();
+        undoSteps.push(step);
+        retainedElements += step.size();
+        while (undoSteps.size() > maxSteps || retainedElements > maxRetainedElements && undoSteps.size() > 1) {
+            retainedElements -= undoSteps.removeLast().size();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    boolean canRedo() {
+        return pendingChanges.isEmpty() && !redoSteps.isEmpty();
+    }
+
+    /**
+     * Restores the address book to how it was before the last step, ending the current step first.
+     */
+    void undo() {
+        commit();
+        if (undoSteps.isEmpty()) {
+            throw new IllegalStateException("No step to undo");
+        }
+        Step step = undoSteps.pop();
+        restore(() -> {
+            for (int i = step.changes.size() - 1; i >= 0; i--) {
+                step.changes.get(i).undo();
+            }
+        });
+        redoSteps.push(step);
+    }
+
+    /**
+     * Makes the changes of the last step undone again.
+     */
+    void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No step to redo");
+        }
+        Step step = redoSteps.pop();
+        restore(() -> step.changes.forEach(Edit::redo));
+        undoSteps.push(step);
+    }
+
+    /**
+     * Reverts the changes made since the last step, which are then forgotten rather than kept to be redone.
+     *
+     * @return true if there were changes to revert.
+     */
+    boolean rollback() {
+        if (pendingChanges.isEmpty()) {
+            return false;
+        }
+        List<Edit<?>> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        restore(() -> {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Forgets all steps, such as when a change cannot be recorded.
+     */
+    private void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingChanges.clear();
+        retainedElements = 0;
+    }
+
+    private void restore(Runnable restorer) {
+        isRestoring = true;
+        try {
+            restorer.run();
+        } finally {
+            isRestoring = false;
+        }
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        record(change, addressBook::replacePersons);
+    }
+
+    private void onTeamListChanged(ListChangeListener.Change<? extends Team> change) {
+        while (change.next()) {
+            if (!change.wasPermutated()) {
+                change.getRemoved().forEach(this::stopRecordingMembers);
+                change.getAddedSubList().forEach(this::recordMembers);
+            }
+        }
+        change.reset();
+        record(change, addressBook::replaceTeams);
+    }
+
+    private void recordMembers(Team team) {
+        MemberRecorder recorder = new MemberRecorder(team);
+        memberRecorders.put(team, recorder);
+        team.getPersonList().addListener(recorder.weakListener);
+    }
+
+    private void stopRecordingMembers(Team team) {
+        MemberRecorder recorder = memberRecorders.remove(team);
+        if (recorder != null) {
+            team.getPersonList().removeListener(recorder.weakListener);
+        }
+    }
+
+    private <E> void record(ListChangeListener.Change<? extends E> change, Replacer<E> replacer) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // Reordering is never done to the address book, so there is no way to undo it
+                clear();
+                return;
+            }
+            if (!change.wasUpdated()) {
+                pendingChanges.add(new Edit<E>(replacer, change.getFrom(),
+                        List.copyOf(change.getRemoved()), List.copyOf(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Replaces the elements from {@code from} up to {@code to} in a list of the address book.
+     */
+    @FunctionalInterface
+    private interface Replacer<E> {
+        void replace(int from, int to, List<E> replacement);
+    }
+
+    /**
+     * A change to a list of the address book: the elements {@code removed} from position {@code from} and the
+     * elements {@code added} in their place.
+     */
+    private static class Edit<E> {
+        private final Replacer<E> replacer;
+        private final int from;
+        private final List<E> removed;
+        private final List<E> added;
+
+        private Edit(Replacer<E> replacer, int from, List<E> removed, List<E> added) {
+            this.replacer = replacer;
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        private void undo() {
+            replacer.replace(from, from + added.size(), removed);
+        }
+
+        private void redo() {
+            replacer.replace(from, from + removed.size(), added);
+        }
+
+        private int size() {
+            return removed.size() + added.size();
+        }
+    }
+
+    /**
+     * The changes made to the address book between two commits.
+     */
+    private static class Step {
+        private final List<Edit<?>> changes;
+        private final int size;
+
+        private Step(List<Edit<?>> changes) {
+            this.changes = changes;
+            this.size = changes.stream().mapToInt(Edit::size).sum();
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Records the changes to the members of a single team.
+     * The team only holds a weak reference to this listener, so a discarded history does not stay reachable through
+     * teams it shares with other address books.
+     */
+    private class MemberRecorder implements ListChangeListener<Person> {
+        private final Team team;
+        private final WeakListChangeListener<Person> weakListener = new WeakListChangeListener<>(this);
+
+        private MemberRecorder(Team team) {
+            this.team = team;
+        }
+
+        @Override
+        public void onChanged(ListChangeListener.Change<? extends Person> change) {
+            record(change, this::replaceMembers);
+        }
+
+        private void replaceMembers(int from, int to, List<Person> replacement) {
+            List<Person> members = new ArrayList<>(team.getPersonList());
+            members.subList(from, to).clear();
+            members.addAll(from, replacement);
+            team.setPersons(members);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PositionIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Keeps an {@link ImmutableAddressBook} copy of an address book up to date as the address book changes, and
+ * publishes it when asked to, for readers on any thread.
+ * Each change to the address book is applied to the copy as it happens, by observing the person list, the team list
+ * and the member list of every team, so publishing a copy takes time in proportion to the changes since the last
+ * one rather than to the size of the address book. Changed teams are copied again, since teams can be modified,
+ * and their members in the copy are moved to the new copy of their team, so that no person in a published copy
+ * refers to a team of the address book. Persons are only moved to the copy of their team if they are its members.
+ * Only the thread that modifies the address book may call {@link #publish()}.
+ */
+class AddressBookPublisher {
+
+    private final ReadOnlyAddressBook source;
+    private final AtomicReference<ImmutableAddressBook> published = new AtomicReference<>(ImmutableAddressBook.EMPTY);
+
+    private PersistentList<Person> persons;
+    private PersistentList<Team> teamCopies;
+    // Teams whose members changed since their copies were made, or that are not copied yet
+    private final Set<Team> changedTeams = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Position of each person in the person list, found by the id shared with their version in a team
+    private final PositionIndex<Person> personPositions;
+    private final Map<Team, ListChangeListener<Person>> memberListeners = new IdentityHashMap<>();
+    // Position of each team in the team list, or null if it has to be worked out again
+    private Map<Team, Integer> teamPositions;
+
+    /**
+     * Creates a publisher of copies of {@code source}, and publishes its current contents.
+     */
+    AddressBookPublisher(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        this.source = source;
+        personPositions = new PositionIndex<>(source.getPersonList(), Person::getId);
+        persons = PersistentList.of(source.getPersonList());
+        // Copied when first published
+        teamCopies = PersistentList.of(source.getTeamList());
+        source.getTeamList().forEach(this::trackMembers);
+        changedTeams.addAll(source.getTeamList());
+        source.getPersonList().addListener(this::onPersonListChanged);
+        source.getTeamList().addListener(this::onTeamListChanged);
+        publish();
+    }
+
+    /**
+     * Returns the last copy published.
+     * Safe to call from any thread.
+     */
+    ImmutableAddressBook getPublished() {
+        return published.get();
+    }
+
+    /**
+     * Publishes a copy of the current contents of the address book.
+     */
+    void publish() {
+        if (!changedTeams.isEmpty()) {
+            Map<Team, Integer> positions = getTeamPositions();
+            for (Team team : changedTeams) {
+                teamCopies = teamCopies.with(positions.get(team), copy(team));
+            }
+            changedTeams.clear();
+        }
+        published.set(new ImmutableAddressBook(persons, teamCopies));
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                personPositions.reset();
+            } else if (!change.wasUpdated()) {
+                personPositions.replaced(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+            }
+        }
+        change.reset();
+        // Persons added to a team are moved to its copy when it is copied again
+        persons = apply(persons, change, person -> {
+            if (memberListeners.containsKey(person.getTeam())) {
+                changedTeams.add(person.getTeam());
+            }
+            return person;
+        });
+    }
+
+    private void onTeamListChanged(ListChangeListener.Change<? extends Team> change) {
+        while (change.next()) {
+            if (!change.wasPermutated()) {
+                change.getRemoved().forEach(this::untrackMembers);
+                change.getAddedSubList().forEach(this::trackMembers);
+            }
+            if (!isAppend(change)) {
+                teamPositions = null;
+            } else if (teamPositions != null) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    teamPositions.put(source.getTeamList().get(i), i);
+                }
+            }
+        }
+        change.reset();
+        // Teams added or replaced stand in for their copies until they are copied when next published
+        teamCopies = apply(teamCopies, change, team -> {
+            changedTeams.add(team);
+            return team;
+        });
+        changedTeams.retainAll(memberListeners.keySet());
+    }
+
+    private void trackMembers(Team team) {
+        ListChangeListener<Person> listener = change -> changedTeams.add(team);
+        memberListeners.put(team, listener);
+        team.getPersonList().addListener(listener);
+    }
+
+    private void untrackMembers(Team team) {
+        ListChangeListener<Person> listener = memberListeners.remove(team);
+        if (listener != null) {
+            team.getPersonList().removeListener(listener);
+        }
+    }
+
+    private Map<Team, Integer> getTeamPositions() {
+        if (teamPositions == null) {
+            teamPositions = new IdentityHashMap<>();
+            List<Team> teams = source.getTeamList();
+            for (int i = 0; i < teams.size(); i++) {
+                teamPositions.put(teams.get(i), i);
+            }
+        }
+        return teamPositions;
+    }
+
+    /**
+     * Returns a copy of {@code team} whose members are the persons in the copy of the person list, and moves them
+     * there to the returned copy.
+     */
+    private Team copy(Team team) {
+        Team copy = new Team(team.getName());
+        List<Person> members = new ArrayList<>();
+        for (Person member : team.getPersonList()) {
+            int position = personPositions.indexOf(member);
+            if (!member.getTeam().isSameTeamName(team)) {
+                members.add(member);
+            } else if (position < 0 || !persons.get(position).getTeam().isSameTeamName(team)) {
+                members.add(member.withTeam(copy));
+            } else {
+                Person person = persons.get(position).withTeam(copy);
+                persons = persons.with(position, person);
+                members.add(person);
+            }
+        }
+        copy.setPersons(members);
+        return copy;
+    }
+
+    private static boolean isAppend(ListChangeListener.Change<?> change) {
+        return change.wasAdded() && !change.wasRemoved() && change.getTo() == change.getList().size();
+    }
+
+    /**
+     * Returns {@code list} with {@code change} applied to it, where each element added is mapped by {@code mapper}.
+     * {@code list} must hold the mapped elements of the changed list as they were before {@code change}.
+     */
+    private static <T, E> PersistentList<E> apply(PersistentList<E> list, ListChangeListener.Change<? extends T> change,
+            Function<? super T, ? extends E> mapper) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() == list.size()) {
+                // Rebuilt from the changed list, which already reflects this and any later parts of the change
+                return PersistentList.of(change.getList().stream().map(mapper).toList());
+            }
+            if (change.wasUpdated()) {
+                continue;
+            }
+            int from = change.getFrom();
+            List<? extends T> added = change.getAddedSubList();
+            int replaced = Math.min(change.getRemovedSize(), added.size());
+            for (int i = 0; i < replaced; i++) {
+                list = list.with(from + i, mapper.apply(added.get(i)));
+            }
+            for (int i = replaced; i < change.getRemovedSize(); i++) {
+                list = list.minus(from + replaced);
+            }
+            for (int i = replaced; i < added.size(); i++) {
+                list = list.plus(from + i, mapper.apply(added.get(i)));
+            }
+        }
+        return list;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * An address book that never changes once created, so that it can be read from any thread without locking.
+ * Its teams are copies that are never modified, and its persons are in those copies rather than in the teams of the
+ * address book the copy was made from.
+ * The persons and teams are held in {@link PersistentList}s, so an address book that differs from another in a few
+ * persons or teams shares the rest of their lists with it.
+ */
+public final class ImmutableAddressBook implements ReadOnlyAddressBook {
+
+    public static final ImmutableAddressBook EMPTY =
+            new ImmutableAddressBook(PersistentList.empty(), PersistentList.empty());
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Team> teams;
+    private final ObservableList<Person> personList;
+    private final ObservableList<Team> teamList;
+
+    /**
+     * Creates an address book of {@code persons} and {@code teams}, none of which may be modified afterwards.
+     */
+    public ImmutableAddressBook(PersistentList<Person> persons, PersistentList<Team> teams) {
+        requireAllNonNull(persons, teams);
+        this.persons = persons;
+        this.teams = teams;
+        this.personList = new IndexedObservableList<>(persons::get, persons.size());
+        this.teamList = new IndexedObservableList<>(teams::get, teams.size());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Team> getTeamList() {
+        return teamList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImmutableAddressBook)) {
+            return false;
+        }
+
+        ImmutableAddressBook otherAddressBook = (ImmutableAddressBook) other;
+        return persons.equals(otherAddressBook.persons) && teams.equals(otherAddressBook.teams);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode() + teams.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("teams", teams)
+                .toString();
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.model;
+
+import java.util.function.IntFunction;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable list that reads its elements by index from another structure. It never changes, so it never
+ * notifies its listeners.
+ */
+class IndexedObservableList<E> extends ObservableListBase<E> {
+    private final IntFunction<E> reader;
+    private final int size;
+
+    IndexedObservableList(IntFunction<E> reader, int size) {
+        this.reader = reader;
+        this.size = size;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return reader.apply(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
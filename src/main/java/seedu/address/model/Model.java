@@ -1,12 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonSortOrder;
 import seedu.address.model.team.Team;
 
 /**
@@ -54,6 +58,81 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the revision of the address book data.
+     * The revision increases every time the address book is modified through this model, so the data only needs
+     * to be saved again if the revision differs from the one that was last saved.
+     */
+    long getRevision();
+
+    /**
+     * Ends the current change to the address book, so that the changes made since the last commit can be undone
+     * together, and publishes the current contents of the address book as the copy returned by
+     * {@link #getPublishedAddressBook()} if publishing was enabled in the user prefs the model was created with.
+     * Does nothing during a transaction.
+     */
+    void commitAddressBook();
+
+    /**
+     * Starts a transaction, during which {@link #commitAddressBook()} does nothing, so that the changes made until
+     * the transaction is committed are undone, published and saved together.
+     * There must not already be a transaction.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction, so that the next {@link #commitAddressBook()} commits all the changes made during it.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the transaction, reverting the changes made to the address book during it.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction has been started and not yet committed or rolled back.
+     */
+    boolean isInTransaction();
+
+    /**
+     * Reverts the changes made to the address book since the last commit, which cannot be redone afterwards.
+     */
+    void rollbackAddressBook();
+
+    /**
+     * Returns true if there is a change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last change.
+     * Changes made since the last commit are committed first, and are what is undone.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last undo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Returns an immutable copy of the address book as it was when it was last published, or an empty
+     * {@code Optional} if publishing was not enabled in the user prefs the model was created with.
+     * Unlike the other methods of the model, this may be called from any thread.
+     */
+    Optional<ReadOnlyAddressBook> getPublishedAddressBook();
+
+    /**
+     * Returns the index for looking up persons in the address book by name word or team name.
+     */
+    PersonSearchIndex getPersonSearchIndex();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      * A person is considered the same if they have the same email, phone number, or GitHub username.
@@ -90,15 +169,41 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Returns an unmodifiable view of the filtered person list, after waiting for a filter still being applied to
+     * be applied.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filtered persons are listed in the order last given to {@link #sortFilteredPersonList(PersonSortOrder)}.
+     * Long lists may be updated later, while {@link #isFilteringPersons()} is true.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and lists the
+     * filtered persons in the order given by {@code comparator}. Persons that {@code comparator} considers equal
+     * are listed in the order last given to {@link #sortFilteredPersonList(PersonSortOrder)}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Returns true if the filtered person list has not been updated with the last filter given yet, as the persons
+     * are still being tested in the background.
+     */
+    boolean isFilteringPersons();
+
+    /**
+     * Lists the persons in the filtered person list in the given {@code sortOrder}, which is kept when the filter
+     * is updated and when persons are added, edited or deleted, until another order is given.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void sortFilteredPersonList(PersonSortOrder sortOrder);
+
     //=========== Team Management ==================================================================================
 
     /**
@@ -4,15 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonSortOrder;
 import seedu.address.model.team.Team;
 
 /**
@@ -21,21 +36,58 @@ import seedu.address.model.team.Team;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /**
+     * Persons lists at least this long are filtered on all processors rather than one person at a time, in the
+     * background when filtered from the JavaFX application thread.
+     */
+    static final int PARALLEL_FILTER_THRESHOLD = 10_000;
+    /** Most changes to the address book that can be undone. */
+    static final int UNDO_HISTORY_MAX_STEPS = 20;
+    /** Persons and teams the undo history may hold before it forgets older changes, bounding its memory. */
+    static final int UNDO_HISTORY_MAX_ELEMENTS = 100_000;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> orderedPersons;
+    private final AddressBookHistory history;
+    private final AddressBookPublisher publisher;
+    private PersonSortOrder sortOrder = PersonSortOrder.ADDED;
+    private long revision;
+    private boolean isInTransaction;
+
+    // Scans of the persons are run in the background when filtering from this thread, and handed back to it
+    private final BooleanSupplier isOnUiThread;
+    private final Executor uiThreadExecutor;
+    private PendingFilter pendingFilter;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Whether the address book is published for other threads is decided here, from {@code userPrefs}.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Platform::isFxApplicationThread, Platform::runLater);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which filters long person lists in the
+     * background when filtered from the thread for which {@code isOnUiThread} is true, and hands the result back
+     * to that thread through {@code uiThreadExecutor}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, BooleanSupplier isOnUiThread,
+            Executor uiThreadExecutor) {
+        requireAllNonNull(addressBook, userPrefs, isOnUiThread, uiThreadExecutor);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        orderedPersons = new SortedList<>(filteredPersons);
+        history = new AddressBookHistory(this.addressBook, UNDO_HISTORY_MAX_STEPS, UNDO_HISTORY_MAX_ELEMENTS);
+        publisher = userPrefs.isAddressBookPublishingEnabled() ? new AddressBookPublisher(this.addressBook) : null;
+        this.isOnUiThread = isOnUiThread;
+        this.uiThreadExecutor = uiThreadExecutor;
     }
 
     public ModelManager() {
@@ -81,7 +133,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        finishFiltering();
         this.addressBook.resetData(addressBook);
+        revision++;
     }
 
     @Override
@@ -89,6 +143,98 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public void commitAddressBook() {
+        if (isInTransaction) {
+            return;
+        }
+        history.commit();
+        if (publisher != null) {
+            publisher.publish();
+        }
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (isInTransaction) {
+            throw new IllegalStateException("A transaction has already been started");
+        }
+        // Changes made before the transaction are kept apart from it
+        history.commit();
+        isInTransaction = true;
+    }
+
+    @Override
+    public void commitTransaction() {
+        requireTransaction();
+        isInTransaction = false;
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        requireTransaction();
+        isInTransaction = false;
+        rollbackAddressBook();
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return isInTransaction;
+    }
+
+    private void requireTransaction() {
+        if (!isInTransaction) {
+            throw new IllegalStateException("No transaction has been started");
+        }
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        finishFiltering();
+        if (history.rollback()) {
+            revision++;
+        }
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        finishFiltering();
+        history.undo();
+        revision++;
+    }
+
+    @Override
+    public void redoAddressBook() {
+        finishFiltering();
+        history.redo();
+        revision++;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> getPublishedAddressBook() {
+        return Optional.ofNullable(publisher).map(AddressBookPublisher::getPublished);
+    }
+
+    @Override
+    public PersonSearchIndex getPersonSearchIndex() {
+        return addressBook.getPersonSearchIndex();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -110,12 +256,16 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        finishFiltering();
         addressBook.removePerson(target);
+        revision++;
     }
 
     @Override
     public void addPerson(Person person) {
+        finishFiltering();
         addressBook.addPerson(person);
+        revision++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -123,24 +273,197 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        finishFiltering();
         addressBook.setPerson(target, editedPerson);
+        revision++;
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, once a filter still being applied has been applied, so that persons are looked
+     * up by their index in the list last asked for.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        finishFiltering();
+        return orderedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filterPersons(predicate, filter -> {
+            orderedPersons.setComparator(getSortComparator());
+            filteredPersons.setPredicate(filter);
+        });
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filterPersons(predicate, filter -> {
+            // Filter first, so that only the persons that pass the filter are ordered
+            filteredPersons.setPredicate(filter);
+            orderedPersons.setComparator(sortOrder.isAdded() ? comparator : comparator.thenComparing(sortOrder));
+        });
+    }
+
+    @Override
+    public boolean isFilteringPersons() {
+        return pendingFilter != null;
+    }
+
+    @Override
+    public void sortFilteredPersonList(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        finishFiltering();
+        this.sortOrder = sortOrder;
+        orderedPersons.setComparator(getSortComparator());
+    }
+
+    /**
+     * Returns the comparator that lists persons in {@code sortOrder}.
+     * The sorted list keeps its persons in order as the filtered list changes, by moving only the persons that
+     * were added, removed or replaced, so persons are not sorted again after each edit.
+     */
+    private Comparator<Person> getSortComparator() {
+        // Without a comparator, the sorted list passes the filtered persons through in their original order
+        return sortOrder.isAdded() ? null : sortOrder;
+    }
+
+    /**
+     * Filters the persons with {@code predicate}, by passing {@code applier} a predicate equivalent to
+     * {@code predicate} that is cheap enough to test every person with on the JavaFX application thread.
+     * For long lists, every person is tested with {@code predicate} up front on the common fork/join pool, and the
+     * predicate passed on looks the persons up in the matches found, so that the filtered list is updated in a
+     * single change. Persons added or replaced later are tested with {@code predicate} itself. {@code predicate}
+     * must therefore depend only on the person tested, and must be safe to test from several threads at once.
+     * Predicates whose matches were found through the search index already look persons up in them, and are
+     * passed on as they are.
+     * <p>
+     * On the UI thread, the persons are tested in the background and {@code applier} is run once they have all
+     * been tested, so that the UI stays responsive meanwhile. The address book is not changed until then, as
+     * changing it first waits for the persons to have been tested.
+     */
+    private void filterPersons(Predicate<Person> predicate, Consumer<Predicate<Person>> applier) {
+        discardPendingFilter();
+        List<Person> persons = addressBook.getPersonList();
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS || persons.size() < PARALLEL_FILTER_THRESHOLD
+                || isFoundThroughIndex(predicate) || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            applier.accept(predicate);
+            return;
+        }
+
+        long version = getPersonSearchIndex().getVersion();
+        // An array splits evenly between threads, unlike the observable list's iterator
+        Person[] personArray = persons.toArray(new Person[0]);
+        if (!isOnUiThread.getAsBoolean()) {
+            applier.accept(lookUpMatches(predicate, findMatches(personArray, predicate), version));
+            return;
+        }
+
+        PendingFilter pending = new PendingFilter(predicate, version, applier,
+                CompletableFuture.supplyAsync(() -> findMatches(personArray, predicate)));
+        pendingFilter = pending;
+        pending.matches.whenComplete((matches, error) -> uiThreadExecutor.execute(() -> applyFilter(pending)));
+    }
+
+    /**
+     * Returns true if the persons matching {@code predicate} were found through the search index, so that testing a
+     * person only looks them up and every person can be tested right away.
+     */
+    private static boolean isFoundThroughIndex(Predicate<Person> predicate) {
+        return predicate instanceof IndexedPredicate
+                && ((IndexedPredicate<?>) predicate).getMatches().isPresent();
+    }
+
+    private static Set<Person> findMatches(Person[] persons, Predicate<Person> predicate) {
+        Set<Person> matches = Arrays.stream(persons)
+                .parallel()
+                .filter(predicate)
+                .collect(PersonSearchIndex::newIdentitySet, Set::add, Set::addAll);
+        logger.fine("Filtered " + persons.length + " persons in parallel, " + matches.size() + " matched");
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that looks persons up in {@code matches}, as long as the search index is still at
+     * {@code version}, and tests them with {@code predicate} itself once it has changed.
+     */
+    private Predicate<Person> lookUpMatches(Predicate<Person> predicate, Set<Person> matches, long version) {
+        return person -> getPersonSearchIndex().getVersion() == version
+                ? matches.contains(person)
+                : predicate.test(person);
+    }
+
+    /**
+     * Applies {@code pending} to the filtered list, unless it has already been applied or a later filter has
+     * replaced it. Its persons must have been tested.
+     */
+    private void applyFilter(PendingFilter pending) {
+        if (pendingFilter != pending) {
+            return;
+        }
+        pendingFilter = null;
+        Predicate<Person> filter;
+        try {
+            filter = lookUpMatches(pending.predicate, pending.matches.join(), pending.version);
+        } catch (CompletionException e) {
+            logger.warning("Filtering persons in the background failed: " + e.getCause());
+            filter = pending.predicate;
+        }
+        pending.applier.accept(filter);
+    }
+
+    /**
+     * Waits for the persons of a filter still being applied to have been tested, and applies it, so that the
+     * address book can be changed.
+     */
+    private void finishFiltering() {
+        PendingFilter pending = pendingFilter;
+        if (pending != null) {
+            awaitMatches(pending);
+            applyFilter(pending);
+        }
+    }
+
+    /**
+     * Waits for the persons of a filter still being applied to have been tested, and drops it.
+     */
+    private void discardPendingFilter() {
+        PendingFilter pending = pendingFilter;
+        if (pending != null) {
+            awaitMatches(pending);
+            pendingFilter = null;
+        }
+    }
+
+    private static void awaitMatches(PendingFilter pending) {
+        try {
+            pending.matches.join();
+        } catch (CompletionException e) {
+            // Reported when the filter is applied
+        }
+    }
+
+    /**
+     * A filter whose persons are being tested in the background.
+     */
+    private static class PendingFilter {
+        private final Predicate<Person> predicate;
+        private final long version;
+        private final Consumer<Predicate<Person>> applier;
+        private final CompletableFuture<Set<Person>> matches;
+
+        private PendingFilter(Predicate<Person> predicate, long version, Consumer<Predicate<Person>> applier,
+                CompletableFuture<Set<Person>> matches) {
+            this.predicate = predicate;
+            this.version = version;
+            this.applier = applier;
+            this.matches = matches;
+        }
     }
 
     //=========== Team Management ==================================================================================
@@ -165,42 +488,46 @@ public class ModelManager implements Model {
 
     @Override
     public void addTeam(Team team) {
+        finishFiltering();
         addressBook.addTeam(team);
+        revision++;
     }
 
     @Override
     public void setTeam(Team target, Team editedTeam) {
         requireAllNonNull(target, editedTeam);
+        finishFiltering();
         addressBook.setTeam(target, editedTeam);
+        revision++;
     }
 
     @Override
     public void deleteTeam(Team team) {
+        finishFiltering();
         addressBook.removeTeam(team);
+        revision++;
     }
 
     @Override
     public void addPersonToTeam(Person person, Team team) {
         requireAllNonNull(person, team);
+        finishFiltering();
         team.addPerson(person);
+        revision++;
     }
 
     @Override
     public void removePersonFromTeam(Person person, Team team) {
         requireAllNonNull(person, team);
+        finishFiltering();
         team.removePerson(person);
+        revision++;
     }
 
     @Override
     public void setPersonsTeamToNone(List<Person> persons) {
         for (Person targetPerson : persons) {
-            Person updatedPerson = new Person(
-                    targetPerson.getName(),
-                    targetPerson.getPhone(),
-                    targetPerson.getEmail(),
-                    targetPerson.getGithub(),
-                    Team.NONE);
-            setPerson(targetPerson, updatedPerson);
+            setPerson(targetPerson, targetPerson.withTeam(Team.NONE));
         }
     }
 
@@ -224,6 +551,6 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && orderedPersons.equals(otherModelManager.orderedPersons);
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,21 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if changes to the address book should be appended to a journal next to the data file
+     * instead of rewriting the whole data file on every save.
+     */
+    boolean isAddressBookJournalEnabled();
+
+    /**
+     * Returns true if the model should publish an immutable copy of the address book after each command, for
+     * reading from other threads.
+     */
+    boolean isAddressBookPublishingEnabled();
+
+    /**
+     * Returns the format in which the address book data file is stored.
+     */
+    DataFileFormat getAddressBookFileFormat();
+
 }
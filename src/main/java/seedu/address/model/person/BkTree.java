@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A Burkhard-Keller tree of words, which finds the words within a given edit distance of a word without comparing it
+ * against every word.
+ * Each child of a node is keyed by its edit distance from the node, so by the triangle inequality a search within
+ * distance {@code d} of a word {@code w} only has to descend into the children keyed from {@code dist(w, node) - d}
+ * to {@code dist(w, node) + d}.
+ * Words cannot be taken out of the tree without rebuilding it, so words that are no longer wanted are left in place
+ * and should be skipped by the caller.
+ */
+final class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, unless it is already in the tree.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes all words from the tree.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes each word within {@code maxDistance} edits of {@code word} to {@code consumer}, along with its distance.
+     */
+    void forEachWithin(String word, int maxDistance, ObjIntConsumer<String> consumer) {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(word, node.word);
+            if (distance <= maxDistance) {
+                consumer.accept(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the exact edit distance between {@code first} and {@code second}, which is needed to choose children
+     * even when it is beyond the distance being searched for.
+     */
+    private static int distance(String first, String second) {
+        return StringUtil.editDistance(first, second, Math.max(first.length(), second.length()));
+    }
+
+    private static final class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
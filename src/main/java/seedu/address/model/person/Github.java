@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's GitHub username in the address book. Guarantees: immutable; is valid as
  * declared in {@link #isValidGithub(String)}
@@ -17,6 +21,8 @@ public class Github {
 
     public final String value;
 
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code Github}.
      *
@@ -37,6 +43,17 @@ public class Github {
         return test != null && test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns a key that sorts this username alphabetically, ignoring case.
+     * The key is computed when this username is first sorted, and kept for later sorts.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = StringUtil.getCollationKey(value);
+        }
+        return collationKey;
+    }
+
     @Override
     public String toString() {
         return value;
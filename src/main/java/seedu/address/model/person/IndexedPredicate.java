@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Tests persons against a result worked out from a {@link PersonSearchIndex}, such as the set of persons matching
+ * some keywords, which is worked out again only when the index has changed since it was last worked out.
+ * It can be tested from several threads at once, as long as the index is not changed meanwhile, and the result is
+ * then worked out only once. If the result holds the matching persons, they can be listed without testing every
+ * person.
+ *
+ * @param <T> the type of the result worked out from the index
+ */
+public final class IndexedPredicate<T> implements Predicate<Person> {
+    private final PersonSearchIndex index;
+    private final Function<PersonSearchIndex, T> resultFunction;
+    private final BiPredicate<T, Person> test;
+    private final Function<T, Set<Person>> matchesFunction;
+    private volatile VersionedResult<T> result;
+
+    /**
+     * Creates a predicate that tests persons with {@code test} against the result of applying
+     * {@code resultFunction} to {@code index}.
+     */
+    public IndexedPredicate(PersonSearchIndex index, Function<PersonSearchIndex, T> resultFunction,
+            BiPredicate<T, Person> test) {
+        this(index, resultFunction, test, result -> null);
+    }
+
+    /**
+     * Creates a predicate that tests persons with {@code test} against the result of applying
+     * {@code resultFunction} to {@code index}, where {@code matchesFunction} returns the persons that match from
+     * a result, or null if the result does not hold them.
+     */
+    public IndexedPredicate(PersonSearchIndex index, Function<PersonSearchIndex, T> resultFunction,
+            BiPredicate<T, Person> test, Function<T, Set<Person>> matchesFunction) {
+        requireAllNonNull(index, resultFunction, test, matchesFunction);
+        this.index = index;
+        this.resultFunction = resultFunction;
+        this.test = test;
+        this.matchesFunction = matchesFunction;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return test.test(getResult(), person);
+    }
+
+    /**
+     * Returns the persons in the index that match, if they were found through the index, so that testing a person
+     * only looks them up.
+     */
+    public Optional<Set<Person>> getMatches() {
+        return Optional.ofNullable(matchesFunction.apply(getResult()));
+    }
+
+    private T getResult() {
+        long version = index.getVersion();
+        VersionedResult<T> current = result;
+        if (current == null || current.version != version) {
+            synchronized (this) {
+                current = result;
+                if (current == null || current.version != version) {
+                    current = new VersionedResult<>(version, resultFunction.apply(index));
+                    result = current;
+                }
+            }
+        }
+        return current.value;
+    }
+
+    private static final class VersionedResult<T> {
+        private final long version;
+        private final T value;
+
+        private VersionedResult(long version, T value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
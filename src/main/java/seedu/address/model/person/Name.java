@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -15,8 +20,12 @@ public class Name {
 
     public static final String VALIDATION_REGEX = "[A-Za-z][A-Za-z/ ]{0,99}";
 
+    private static final Interner<Name> INTERNER = new Interner<>();
+
     public final String fullName;
 
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -28,6 +37,16 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} for {@code name}, shared with the other persons of the same name.
+     * Many students share a name in a large roster, so names are shared rather than created for each person.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return INTERNER.intern(new Name(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -35,6 +54,16 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns a key that sorts this name alphabetically, ignoring case.
+     * The key is computed when this name is first sorted, and kept for later sorts.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = StringUtil.getCollationKey(fullName);
+        }
+        return collationKey;
+    }
 
     @Override
     public String toString() {
@@ -1,61 +1,239 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersonSearchIndex.MatchMode;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name}, GitHub username and team name match any of the respective keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+    /** Stands for a {@link MatchMode#FUZZY} distance chosen for each keyword from its length. */
+    public static final int LENGTH_BASED_MAX_DISTANCE = -1;
+    public static final int MAX_EDIT_DISTANCE = 3;
+
     private final List<String> nameKeywords;
+    private final List<String> githubKeywords;
     private final List<String> teamKeywords;
+    private final MatchMode mode;
+    private final int maxDistance;
+    private final List<String> validNameKeywords;
+    private final List<String> validGithubKeywords;
+    private final List<String> validTeamKeywords;
 
     /**
-     * Creates a predicate to test for name and team keyword matches.
+     * Creates a predicate to test for name and team keyword matches, where name keywords must match whole words.
      *
      * @param nameKeywords List of keywords to match against person names. Empty list means no name filtering.
      * @param teamKeywords List of keywords to match against team names. Empty list means no team filtering.
      */
     public NameContainsKeywordsPredicate(List<String> nameKeywords, List<String> teamKeywords) {
+        this(nameKeywords, List.of(), teamKeywords, MatchMode.WORD);
+    }
+
+    /**
+     * Creates a predicate to test for name, GitHub username and team keyword matches.
+     *
+     * @param nameKeywords List of keywords to match against person names. Empty list means no name filtering.
+     * @param githubKeywords List of keywords to match against GitHub usernames. Empty list means no GitHub filtering.
+     * @param teamKeywords List of keywords to match against team names. Empty list means no team filtering.
+     * @param mode How name and GitHub keywords must match. Team keywords must always match whole team names.
+     */
+    public NameContainsKeywordsPredicate(List<String> nameKeywords, List<String> githubKeywords,
+            List<String> teamKeywords, MatchMode mode) {
+        this(nameKeywords, githubKeywords, teamKeywords, mode, LENGTH_BASED_MAX_DISTANCE);
+    }
+
+    /**
+     * Creates a predicate to test for name, GitHub username and team keyword matches.
+     *
+     * @param maxDistance The most edits allowed between a keyword and a word under {@link MatchMode#FUZZY},
+     *     from 0 to {@link #MAX_EDIT_DISTANCE}, or {@link #LENGTH_BASED_MAX_DISTANCE}.
+     * @see #NameContainsKeywordsPredicate(List, List, List, MatchMode)
+     */
+    public NameContainsKeywordsPredicate(List<String> nameKeywords, List<String> githubKeywords,
+            List<String> teamKeywords, MatchMode mode, int maxDistance) {
+        requireNonNull(mode);
+        checkArgument(maxDistance == LENGTH_BASED_MAX_DISTANCE
+                || (maxDistance >= 0 && maxDistance <= MAX_EDIT_DISTANCE), "Invalid maximum edit distance");
         this.nameKeywords = nameKeywords;
+        this.githubKeywords = githubKeywords;
         this.teamKeywords = teamKeywords;
+        this.mode = mode;
+        this.maxDistance = maxDistance;
+        this.validNameKeywords = withoutBlanks(nameKeywords);
+        this.validGithubKeywords = withoutBlanks(githubKeywords);
+        this.validTeamKeywords = withoutBlanks(teamKeywords);
+    }
+
+    private static List<String> withoutBlanks(List<String> keywords) {
+        return keywords.stream()
+            .filter(keyword -> !keyword.isBlank())
+            .toList();
     }
 
     /**
-     * Tests if a given person matches both the name and team keywords (if any).
+     * Tests if a given person matches the name, GitHub and team keywords (if any).
      * A person matches if:
-     * - Their name contains any of the name keywords (or no name keywords were provided) AND
+     * - Their name contains a word matching any of the name keywords (or no name keywords were provided) AND
+     * - Their GitHub username matches any of the GitHub keywords (or no GitHub keywords were provided) AND
      * - Their team contains any of the team keywords (or no team keywords were provided)
      *
      * @param person the person to test
-     * @return true if the person matches both name and team criteria
+     * @return true if the person matches all the criteria
      */
     @Override
     public boolean test(Person person) {
-        List<String> validNameKeywords = nameKeywords.stream()
-            .filter(keyword -> !keyword.isBlank())
-            .toList();
-
-        List<String> validTeamKeywords = teamKeywords.stream()
-            .filter(keyword -> !keyword.isBlank())
-            .toList();
-
-        if (validNameKeywords.isEmpty() && validTeamKeywords.isEmpty()) {
+        if (hasNoKeywords()) {
             return false;
         }
 
         boolean nameMatches = validNameKeywords.isEmpty()
-                || validNameKeywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+                || validNameKeywords.stream().anyMatch(keyword -> nameMatches(person.getName().fullName, keyword));
+
+        boolean githubMatches = validGithubKeywords.isEmpty()
+                || validGithubKeywords.stream().anyMatch(keyword -> wordMatches(person.getGithub().value, keyword));
 
         boolean teamMatches = validTeamKeywords.isEmpty()
                 || validTeamKeywords.stream()
                         .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getTeamName(), keyword));
 
-        return nameMatches && teamMatches;
+        return nameMatches && githubMatches && teamMatches;
+    }
+
+    private boolean nameMatches(String name, String keyword) {
+        if (mode == MatchMode.WORD) {
+            return StringUtil.containsWordIgnoreCase(name, keyword);
+        }
+        return PersonSearchIndex.getWords(name).stream().anyMatch(word -> wordMatches(word, keyword));
+    }
+
+    private boolean wordMatches(String word, String keyword) {
+        String foldedWord = PersonSearchIndex.foldCase(word);
+        String foldedKeyword = PersonSearchIndex.foldCase(keyword.trim());
+        switch (mode) {
+        case PREFIX:
+            return foldedWord.startsWith(foldedKeyword);
+        case PARTIAL:
+            return foldedWord.contains(foldedKeyword);
+        case FUZZY:
+            int allowed = getMaxDistance(keyword);
+            return StringUtil.editDistance(foldedWord, foldedKeyword, allowed) <= allowed;
+        default:
+            return foldedWord.equals(foldedKeyword);
+        }
+    }
+
+    private int getMaxDistance(String keyword) {
+        return maxDistance == LENGTH_BASED_MAX_DISTANCE
+                ? PersonSearchIndex.getDefaultMaxDistance(keyword)
+                : maxDistance;
+    }
+
+    /**
+     * Returns true if the persons matching this predicate should be listed in the order given by {@link #getRanking()}
+     * rather than in the order they were added.
+     */
+    public boolean isRanked() {
+        return mode == MatchMode.FUZZY;
+    }
+
+    /**
+     * Returns a comparator that puts the persons whose names and GitHub usernames are the fewest edits away from the
+     * keywords first.
+     */
+    public Comparator<Person> getRanking() {
+        return Comparator.comparingInt(person -> getBestDistance(PersonSearchIndex.getWords(person.getName().fullName),
+                validNameKeywords) + getBestDistance(List.of(person.getGithub().value), validGithubKeywords));
+    }
+
+    /**
+     * Returns the fewest edits between any of {@code words} and any of {@code keywords}, or 0 if there are no keywords.
+     */
+    private static int getBestDistance(List<String> words, List<String> keywords) {
+        if (keywords.isEmpty()) {
+            return 0;
+        }
+        int best = Integer.MAX_VALUE - 1;
+        for (String word : words) {
+            String foldedWord = PersonSearchIndex.foldCase(word);
+            for (String keyword : keywords) {
+                String foldedKeyword = PersonSearchIndex.foldCase(keyword.trim());
+                best = Math.min(best, StringUtil.editDistance(foldedWord, foldedKeyword, best));
+            }
+        }
+        return best;
+    }
+
+    private boolean hasNoKeywords() {
+        return validNameKeywords.isEmpty() && validGithubKeywords.isEmpty() && validTeamKeywords.isEmpty();
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as this one, but finds them by looking the keywords up in
+     * {@code index} instead of examining each person's name, GitHub username and team.
+     * The matching persons are looked up again only when the index has changed since they were last looked up.
+     * {@code index} must be kept in sync with the list of persons being tested.
+     *
+     * @see IndexedPredicate
+     */
+    public Predicate<Person> using(PersonSearchIndex index) {
+        requireNonNull(index);
+        return new IndexedPredicate<>(index, this::findMatches, Set::contains, Function.identity());
+    }
+
+    /**
+     * Returns the persons in {@code index} that match this predicate.
+     */
+    private Set<Person> findMatches(PersonSearchIndex index) {
+        if (hasNoKeywords()) {
+            return Set.of();
+        }
+
+        Set<Person> matches = findAny(validNameKeywords, keyword -> mode == MatchMode.FUZZY
+                ? index.findByNameWithin(keyword, getMaxDistance(keyword)).keySet()
+                : index.findByName(keyword, mode));
+        matches = intersect(matches, findAny(validGithubKeywords, keyword -> mode == MatchMode.FUZZY
+                ? index.findByGithubWithin(keyword, getMaxDistance(keyword)).keySet()
+                : index.findByGithub(keyword, mode)));
+        return intersect(matches, findAny(validTeamKeywords, index::getPersonsInTeam));
+    }
+
+    /**
+     * Returns the persons in both {@code first} and {@code second}, where null stands for no restriction.
+     * {@code first} may be modified.
+     */
+    private static Set<Person> intersect(Set<Person> first, Set<Person> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second != null) {
+            first.retainAll(second);
+        }
+        return first;
+    }
+
+    /**
+     * Returns the persons found by any of {@code keywords}, or null if there are no keywords to filter by.
+     */
+    private static Set<Person> findAny(List<String> keywords, Function<String, Set<Person>> finder) {
+        if (keywords.isEmpty()) {
+            return null;
+        }
+        Set<Person> found = WordIndex.newIdentitySet();
+        for (String keyword : keywords) {
+            found.addAll(finder.apply(keyword));
+        }
+        return found;
     }
 
     @Override
@@ -71,14 +249,20 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
         return nameKeywords.equals(otherNameContainsKeywordsPredicate.nameKeywords)
-                && teamKeywords.equals(otherNameContainsKeywordsPredicate.teamKeywords);
+                && githubKeywords.equals(otherNameContainsKeywordsPredicate.githubKeywords)
+                && teamKeywords.equals(otherNameContainsKeywordsPredicate.teamKeywords)
+                && mode == otherNameContainsKeywordsPredicate.mode
+                && maxDistance == otherNameContainsKeywordsPredicate.maxDistance;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("nameKeywords", nameKeywords)
+                .add("githubKeywords", githubKeywords)
                 .add("teamKeywords", teamKeywords)
+                .add("mode", mode)
+                .add("maxDistance", maxDistance)
                 .toString();
     }
 }
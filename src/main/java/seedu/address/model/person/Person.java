@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.team.Team;
@@ -10,9 +11,14 @@ import seedu.address.model.team.Team;
 /**
  * Represents a Person in the address book. Guarantees: details are present and not null, field
  * values are validated, immutable.
+ * Each person also has an id, which is kept by the edited versions of the person created through
+ * {@link #withDetails} and {@link #withTeam}, so that the person can be found again after an edit without comparing
+ * their fields. Ids are not saved, and are not part of {@link #equals(Object)}.
  */
 public class Person {
 
+    private static final AtomicInteger nextId = new AtomicInteger();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -22,11 +28,19 @@ public class Person {
     private final Github github;
     private final Team team;
 
+    // Kept by every edited version of this person
+    private final int id;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Github github, Team team) {
+        this(nextId.getAndIncrement(), name, phone, email, github, team);
+    }
+
+    private Person(int id, Name name, Phone phone, Email email, Github github, Team team) {
         requireAllNonNull(name, phone, email, github, team);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -58,6 +72,27 @@ public class Person {
         return team.getName();
     }
 
+    /**
+     * Returns the id of this person, which is shared with every version of this person created by editing them.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns this person with their details replaced by the given ones, keeping their id and team.
+     */
+    public Person withDetails(Name name, Phone phone, Email email, Github github) {
+        return new Person(id, name, phone, email, github, team);
+    }
+
+    /**
+     * Returns this person in {@code team} instead, keeping their id and details.
+     */
+    public Person withTeam(Team team) {
+        return new Person(id, name, phone, email, github, team);
+    }
+
     /**
      * Returns true if both persons have the same email, phone number, or GitHub username.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,327 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the words in persons' names, their GitHub usernames and their team names to the persons.
+ * Words are matched case-insensitively, in the same way as {@link String#equalsIgnoreCase(String)}, either in full,
+ * by prefix, by any part of them or by being within a number of edits of them.
+ * Persons can also be looked up by email, by email domain and by phone number prefix.
+ * The index is kept in sync with a {@link UniquePersonList}, so that persons can be looked up by keyword without
+ * examining every person in the list.
+ */
+public final class PersonSearchIndex {
+
+    /**
+     * The ways in which a keyword can match a word.
+     */
+    public enum MatchMode {
+        /** The keyword is the whole word. */
+        WORD,
+        /** The keyword is the start of the word. */
+        PREFIX,
+        /** The keyword appears anywhere in the word. */
+        PARTIAL,
+        /** The keyword is within a number of single character edits of the word. */
+        FUZZY
+    }
+
+    private final WordIndex nameWords = new WordIndex();
+    private final WordIndex githubUsernames = new WordIndex();
+    private final WordIndex teamNames = new WordIndex();
+    private final WordIndex emailDomains = new WordIndex(false);
+    private final WordIndex phoneNumbers = new WordIndex(false);
+    private final Function<String, Person> emailLookup;
+    private int size;
+    private long version;
+
+    /**
+     * Creates an index that looks persons up by email with {@code emailLookup}, which is given a lowercase email.
+     */
+    PersonSearchIndex(Function<String, Person> emailLookup) {
+        this.emailLookup = emailLookup;
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons whose names contain {@code word} as a full word, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return nameWords.get(foldCase(word.trim()));
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons whose GitHub username is {@code username}, ignoring case.
+     */
+    public Set<Person> getPersonsWithGithub(String username) {
+        requireNonNull(username);
+        return githubUsernames.get(foldCase(username.trim()));
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons whose team name is {@code teamName}, ignoring case.
+     */
+    public Set<Person> getPersonsInTeam(String teamName) {
+        requireNonNull(teamName);
+        return teamNames.get(foldCase(teamName.trim()));
+    }
+
+    /**
+     * Returns an unmodifiable set of the person whose email is {@code email}, ignoring case, if there is one.
+     */
+    public Set<Person> getPersonsWithEmail(String email) {
+        requireNonNull(email);
+        Person person = emailLookup.apply(email.trim().toLowerCase());
+        return person == null ? Set.of() : Set.of(person);
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons whose email address is at {@code domain}, ignoring case.
+     */
+    public Set<Person> getPersonsWithEmailDomain(String domain) {
+        requireNonNull(domain);
+        return emailDomains.get(foldCase(domain.trim()));
+    }
+
+    /**
+     * Returns a new set of the persons whose phone number starts with {@code prefix}.
+     */
+    public Set<Person> findByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<Person> result = WordIndex.newIdentitySet();
+        if (!prefix.trim().isEmpty()) {
+            phoneNumbers.collectStartingWith(prefix.trim(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons whose phone number starts with {@code prefix}, without finding them.
+     */
+    public int countByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        return prefix.trim().isEmpty() ? 0 : phoneNumbers.countStartingWith(prefix.trim());
+    }
+
+    /**
+     * Returns a new set of the persons whose team name satisfies {@code matcher}, which is given case-folded team
+     * names. Each team name is tested once, however many persons are in the team.
+     */
+    public Set<Person> findByTeamName(Predicate<String> matcher) {
+        requireNonNull(matcher);
+        Set<Person> result = WordIndex.newIdentitySet();
+        teamNames.collectMatching(matcher, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of persons whose team name satisfies {@code matcher}, without finding them.
+     */
+    public int countByTeamName(Predicate<String> matcher) {
+        requireNonNull(matcher);
+        return teamNames.countMatching(matcher);
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new set of the persons who have a word in their name that matches {@code keyword}, ignoring case.
+     */
+    public Set<Person> findByName(String keyword, MatchMode mode) {
+        return find(nameWords, keyword, mode);
+    }
+
+    /**
+     * Returns a new set of the persons whose GitHub username matches {@code keyword}, ignoring case.
+     */
+    public Set<Person> findByGithub(String keyword, MatchMode mode) {
+        return find(githubUsernames, keyword, mode);
+    }
+
+    /**
+     * Returns a new map from the persons who have a word in their name within {@code maxDistance} edits of
+     * {@code keyword}, ignoring case, to the fewest edits between any of those words and {@code keyword}.
+     */
+    public Map<Person, Integer> findByNameWithin(String keyword, int maxDistance) {
+        return findWithin(nameWords, keyword, maxDistance);
+    }
+
+    /**
+     * Returns a new map from the persons whose GitHub username is within {@code maxDistance} edits of {@code keyword},
+     * ignoring case, to the number of edits between them.
+     */
+    public Map<Person, Integer> findByGithubWithin(String keyword, int maxDistance) {
+        return findWithin(githubUsernames, keyword, maxDistance);
+    }
+
+    /**
+     * Returns a number that changes whenever persons are added to or removed from the index, so that results
+     * computed from the index can be reused until it changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of edits allowed by {@link MatchMode#FUZZY} when no number is given, which grows with the
+     * length of {@code keyword} so that short keywords do not match most short words.
+     */
+    public static int getDefaultMaxDistance(String keyword) {
+        int length = keyword.trim().length();
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    private static Set<Person> find(WordIndex index, String keyword, MatchMode mode) {
+        requireNonNull(keyword);
+        requireNonNull(mode);
+        String foldedKeyword = foldCase(keyword.trim());
+        Set<Person> result = WordIndex.newIdentitySet();
+        if (foldedKeyword.isEmpty()) {
+            return result;
+        }
+
+        switch (mode) {
+        case PREFIX:
+            index.collectStartingWith(foldedKeyword, result);
+            break;
+        case PARTIAL:
+            index.collectContaining(foldedKeyword, result);
+            break;
+        case FUZZY:
+            result.addAll(findWithin(index, keyword, getDefaultMaxDistance(keyword)).keySet());
+            break;
+        default:
+            result.addAll(index.get(foldedKeyword));
+        }
+        return result;
+    }
+
+    private static Map<Person, Integer> findWithin(WordIndex index, String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        String foldedKeyword = foldCase(keyword.trim());
+        Map<Person, Integer> result = new IdentityHashMap<>();
+        if (!foldedKeyword.isEmpty()) {
+            index.collectWithin(foldedKeyword, maxDistance, result);
+        }
+        return result;
+    }
+
+    /**
+     * Adds {@code person} under each word of their name, their GitHub username and their team name.
+     */
+    void add(Person person) {
+        version++;
+        size++;
+        emailDomains.add(foldCase(getEmailDomain(person)), person);
+        phoneNumbers.add(person.getPhone().value, person);
+        for (String word : getWords(person.getName().fullName)) {
+            nameWords.add(foldCase(word), person);
+        }
+        githubUsernames.add(foldCase(person.getGithub().value), person);
+        if (!person.getTeamName().isEmpty()) {
+            teamNames.add(foldCase(person.getTeamName()), person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the entries it was added under.
+     */
+    void remove(Person person) {
+        version++;
+        size--;
+        emailDomains.remove(foldCase(getEmailDomain(person)), person);
+        phoneNumbers.remove(person.getPhone().value, person);
+        for (String word : getWords(person.getName().fullName)) {
+            nameWords.remove(foldCase(word), person);
+        }
+        githubUsernames.remove(foldCase(person.getGithub().value), person);
+        if (!person.getTeamName().isEmpty()) {
+            teamNames.remove(foldCase(person.getTeamName()), person);
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        version++;
+        size = 0;
+        emailDomains.clear();
+        phoneNumbers.clear();
+        nameWords.clear();
+        githubUsernames.clear();
+        teamNames.clear();
+    }
+
+    /**
+     * Returns a new, empty set that compares persons by identity, which is cheaper than hashing all their fields.
+     */
+    public static Set<Person> newIdentitySet() {
+        return WordIndex.newIdentitySet();
+    }
+
+    /**
+     * Returns the part of {@code person}'s email after the last {@code @}.
+     */
+    public static String getEmailDomain(Person person) {
+        String email = person.getEmail().value;
+        return email.substring(email.lastIndexOf('@') + 1);
+    }
+
+    /**
+     * Returns the words in {@code sentence}, which are separated by whitespace.
+     */
+    static List<String> getWords(String sentence) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isSeparator = i == sentence.length() || Character.isWhitespace(sentence.charAt(i));
+            if (isSeparator && start >= 0) {
+                words.add(sentence.substring(start, i));
+                start = -1;
+            } else if (!isSeparator && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code value} with each character folded to the same case, such that two strings fold to the same value
+     * exactly when they are equal ignoring case.
+     * {@code value} itself is returned if it is already folded, so that the index shares the strings of the persons'
+     * fields rather than keeping copies of them.
+     */
+    public static String foldCase(String value) {
+        char[] folded = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            char foldedChar = Character.toLowerCase(Character.toUpperCase(c));
+            if (folded == null && foldedChar != c) {
+                folded = value.toCharArray();
+            }
+            if (folded != null) {
+                folded[i] = foldedChar;
+            }
+        }
+        return folded == null ? value : new String(folded);
+    }
+}
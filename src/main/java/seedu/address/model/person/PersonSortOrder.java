@@ -0,0 +1,210 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Orders persons by one or more of their fields, each in ascending or descending order.
+ * Later keys only order the persons that earlier keys consider equal, and persons that all keys consider equal are
+ * ordered by email, so that the order does not depend on the order persons were added in.
+ * Names, GitHub usernames and team names are compared alphabetically ignoring case, through collation keys that are
+ * computed once and kept by the fields themselves, so that each comparison only compares two arrays of bytes.
+ * Emails, which are always lowercase, are compared as they are. Persons without a team are listed last.
+ */
+public final class PersonSortOrder implements Comparator<Person> {
+
+    /** Lists persons in the order they were added. */
+    public static final PersonSortOrder ADDED = new PersonSortOrder(List.of());
+
+    /**
+     * The fields persons can be sorted by.
+     */
+    public enum Field {
+        NAME("name"),
+        EMAIL("email"),
+        TEAM("team"),
+        GITHUB("github");
+
+        private final String name;
+
+        Field(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the field, as typed by the user.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the field called {@code name}, ignoring case, or null if there is none.
+         */
+        public static Field fromName(String name) {
+            requireNonNull(name);
+            for (Field field : values()) {
+                if (field.name.equalsIgnoreCase(name)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        private int compare(Person first, Person second) {
+            switch (this) {
+            case NAME:
+                return first.getName().getCollationKey().compareTo(second.getName().getCollationKey());
+            case EMAIL:
+                return first.getEmail().value.compareTo(second.getEmail().value);
+            case GITHUB:
+                return first.getGithub().getCollationKey().compareTo(second.getGithub().getCollationKey());
+            default:
+                return first.getTeam().getCollationKey().compareTo(second.getTeam().getCollationKey());
+            }
+        }
+    }
+
+    /**
+     * A field to sort by, and the direction to sort it in.
+     */
+    public static final class Key {
+        private final Field field;
+        private final boolean isDescending;
+
+        /**
+         * Creates a key that sorts by {@code field}, in descending order if {@code isDescending}.
+         */
+        public Key(Field field, boolean isDescending) {
+            requireNonNull(field);
+            this.field = field;
+            this.isDescending = isDescending;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public boolean isDescending() {
+            return isDescending;
+        }
+
+        private int compare(Person first, Person second) {
+            if (field == Field.TEAM) {
+                boolean hasNoFirstTeam = first.getTeamName().isEmpty();
+                boolean hasNoSecondTeam = second.getTeamName().isEmpty();
+                if (hasNoFirstTeam || hasNoSecondTeam) {
+                    // Persons without a team stay last in either direction
+                    return Boolean.compare(hasNoFirstTeam, hasNoSecondTeam);
+                }
+            }
+            int result = field.compare(first, second);
+            return isDescending ? -result : result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key otherKey = (Key) other;
+            return field == otherKey.field && isDescending == otherKey.isDescending;
+        }
+
+        @Override
+        public int hashCode() {
+            return field.hashCode() * 2 + (isDescending ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return field.getName() + (isDescending ? " (descending)" : "");
+        }
+    }
+
+    private final List<Key> keys;
+
+    /**
+     * Creates an order that sorts persons by each of {@code keys} in turn, which must not repeat a field.
+     * No keys stands for the order persons were added in.
+     */
+    public PersonSortOrder(List<Key> keys) {
+        requireNonNull(keys);
+        checkArgument(keys.stream().map(Key::getField).distinct().count() == keys.size(),
+                "Fields cannot be sorted by more than once");
+        this.keys = List.copyOf(keys);
+    }
+
+    public List<Key> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns true if this order lists persons in the order they were added.
+     */
+    public boolean isAdded() {
+        return keys.isEmpty();
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        if (first == second) {
+            return 0;
+        }
+        for (Key key : keys) {
+            int result = key.compare(first, second);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return keys.isEmpty() ? 0 : Field.EMAIL.compare(first, second);
+    }
+
+    /**
+     * Returns a description of the order, such as "team, then name (descending)".
+     */
+    public String getDescription() {
+        return isAdded()
+                ? "order added"
+                : keys.stream().map(Key::toString).collect(Collectors.joining(", then "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherSortOrder = (PersonSortOrder) other;
+        return keys.equals(otherSortOrder.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keys", keys)
+                .toString();
+    }
+}
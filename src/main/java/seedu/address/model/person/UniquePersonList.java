@@ -3,12 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PositionIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -21,6 +25,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Hash indexes keyed by email, phone and GitHub username are kept in sync with the backing list, so that identity
+ * checks and target lookups do not need to scan the whole list. A {@link PersonSearchIndex} is kept in sync as well,
+ * and so is a {@link PositionIndex}, so that persons are replaced and removed without searching the list for them.
+ * The indexes are updated before the backing list, so that listeners of the list see up-to-date indexes.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -29,12 +38,21 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity indexes, one entry per person in internalList
+    private final Map<String, Person> emailIndex = new HashMap<>();
+    private final Map<String, Person> phoneIndex = new HashMap<>();
+    private final Map<String, Person> githubIndex = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(emailIndex::get);
+    private final PositionIndex<Person> positions = new PositionIndex<>(internalList);
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailIndex.containsKey(emailKey(toCheck))
+                || phoneIndex.containsKey(phoneKey(toCheck))
+                || githubIndex.containsKey(githubKey(toCheck.getGithub().value));
     }
 
     /**
@@ -42,8 +60,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasPersonWithGithub(String githubUsername) {
         requireNonNull(githubUsername);
-        return internalList.stream().anyMatch(person ->
-            person.getGithub().value.equals(githubUsername));
+        Person person = githubIndex.get(githubKey(githubUsername));
+        return person != null && person.getGithub().value.equals(githubUsername);
     }
 
     /**
@@ -53,8 +71,9 @@ public class UniquePersonList implements Iterable<Person> {
     public boolean containsExcluding(Person toCheck, Person toExclude) {
         requireNonNull(toCheck);
         requireNonNull(toExclude);
-        return internalList.stream()
-                .anyMatch(person -> person != toExclude && toCheck.isSamePerson(person));
+        return isOtherThan(emailIndex.get(emailKey(toCheck)), toExclude)
+                || isOtherThan(phoneIndex.get(phoneKey(toCheck)), toExclude)
+                || isOtherThan(githubIndex.get(githubKey(toCheck.getGithub().value)), toExclude);
     }
 
     /**
@@ -66,6 +85,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
+        positions.replaced(internalList.size(), List.of(), List.of(toAdd));
         internalList.add(toAdd);
     }
 
@@ -77,23 +98,21 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = -1;
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).isSamePerson(target)) {
-                index = i;
-                break;
-            }
-        }
-
-        if (index == -1) {
+        Person existing = findSamePerson(target);
+        if (existing == null) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        // Even a person with the same identity may take over the phone number or GitHub username of another person
+        if (containsExcluding(editedPerson, existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        int position = positions.indexOf(existing);
+        unindex(existing);
+        index(editedPerson);
+        positions.replaced(position, List.of(existing), List.of(editedPerson));
+        internalList.set(position, editedPerson);
     }
 
     /**
@@ -102,13 +121,40 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = emailIndex.get(emailKey(toRemove));
+        if (existing == null || !existing.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+        int position = positions.indexOf(existing);
+        unindex(existing);
+        positions.replaced(position, List.of(existing), List.of());
+        internalList.remove(position);
+    }
+
+    /**
+     * Replaces the persons from {@code from} up to {@code to} with {@code replacement}.
+     * This restores an earlier state of the list, so {@code replacement} is not checked for duplicates, and must not
+     * share an identity with the persons that are kept.
+     */
+    public void replace(int from, int to, List<Person> replacement) {
+        requireAllNonNull(replacement);
+        List<Person> removed = List.copyOf(internalList.subList(from, to));
+        removed.forEach(this::unindex);
+        replacement.forEach(this::index);
+        positions.replaced(from, removed, replacement);
+
+        int replaced = Math.min(removed.size(), replacement.size());
+        for (int i = 0; i < replaced; i++) {
+            internalList.set(from + i, replacement.get(i));
+        }
+        internalList.remove(from + replaced, to);
+        internalList.addAll(from + replaced, replacement.subList(replaced, replacement.size()));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
+        positions.reset();
         internalList.setAll(replacement.internalList);
     }
 
@@ -122,10 +168,19 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
+        positions.reset();
         internalList.setAll(persons);
     }
 
 
+    /**
+     * Returns the index for looking up persons in this list by keywords in their fields.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Returns the size of the {@code ObservableList}.
      */
@@ -189,15 +244,83 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the person in the list with the same identity as {@code target}, or null if there is none.
+     * If several persons share an identity field with {@code target}, the one that appears first in the list is
+     * returned.
+     */
+    private Person findSamePerson(Person target) {
+        Person byEmail = emailIndex.get(emailKey(target));
+        Person byPhone = phoneIndex.get(phoneKey(target));
+        Person byGithub = githubIndex.get(githubKey(target.getGithub().value));
+
+        Person found = null;
+        for (Person candidate : new Person[] {byEmail, byPhone, byGithub}) {
+            if (candidate == null || candidate == found) {
+                continue;
+            }
+            if (found == null || positions.indexOf(candidate) < positions.indexOf(found)) {
+                found = candidate;
+            }
+        }
+        return found;
+    }
+
+    private void index(Person person) {
+        emailIndex.put(emailKey(person), person);
+        phoneIndex.put(phoneKey(person), person);
+        githubIndex.put(githubKey(person.getGithub().value), person);
+        searchIndex.add(person);
+    }
+
+    private void unindex(Person person) {
+        emailIndex.remove(emailKey(person), person);
+        phoneIndex.remove(phoneKey(person), person);
+        githubIndex.remove(githubKey(person.getGithub().value), person);
+        searchIndex.remove(person);
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        emailIndex.clear();
+        phoneIndex.clear();
+        githubIndex.clear();
+        searchIndex.clear();
+        for (Person person : persons) {
+            index(person);
+        }
+    }
+
+    private static boolean isOtherThan(Person found, Person toExclude) {
+        return found != null && found != toExclude;
+    }
+
+    private static String emailKey(Person person) {
+        // Email values are normalized to lowercase on construction
+        return person.getEmail().value;
+    }
+
+    private static String phoneKey(Person person) {
+        return person.getPhone().value;
+    }
+
+    private static String githubKey(String githubUsername) {
+        // GitHub usernames are compared case-insensitively by Github#equals
+        return githubUsername.toLowerCase();
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Two persons are the same if they share any identity field, so it suffices to check each field for repeats.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenPhones = new HashSet<>();
+        Set<String> seenGithubs = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenEmails.add(emailKey(person))
+                    || !seenPhones.add(phoneKey(person))
+                    || !seenGithubs.add(githubKey(person.getGithub().value))) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,232 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * An index from case-folded words to the persons that have them, which can also find the words that start with or
+ * contain a given string.
+ * Words are kept sorted, so that the words with a given prefix form a contiguous range, and words are also indexed by
+ * each run of {@value #GRAM_LENGTH} characters in them, so that the words containing a given string can be found from
+ * the words containing its rarest run. Lookups therefore take time proportional to the number of matching words,
+ * rather than to the number of words in the index, except for strings shorter than a run, which match a large share
+ * of the words anyway and are checked against every word.
+ * Words are also kept in a {@link BkTree}, so that the words within a given edit distance of a string can be found
+ * without computing its distance to every word.
+ * The runs and the tree can be left out for words that are only looked up in full or by prefix.
+ */
+final class WordIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private final NavigableSet<String> sortedWords = new TreeSet<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    private final BkTree wordTree = new BkTree();
+    private final boolean isApproximate;
+
+    /**
+     * Creates an index that can find words in full, by prefix, by any part of them and by edit distance.
+     */
+    WordIndex() {
+        this(true);
+    }
+
+    /**
+     * Creates an index that can find words by any part of them and by edit distance only if {@code isApproximate}.
+     */
+    WordIndex(boolean isApproximate) {
+        this.isApproximate = isApproximate;
+    }
+
+    /**
+     * Adds {@code person} under {@code word}, which must already be case-folded.
+     */
+    void add(String word, Person person) {
+        Set<Person> persons = personsByWord.get(word);
+        if (persons == null) {
+            persons = newSmallIdentitySet();
+            personsByWord.put(word, persons);
+            sortedWords.add(word);
+            if (isApproximate) {
+                wordTree.add(word);
+                for (String gram : getGrams(word)) {
+                    wordsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(word);
+                }
+            }
+        }
+        persons.add(person);
+    }
+
+    /**
+     * Removes {@code person} from under {@code word}, which must already be case-folded.
+     */
+    void remove(String word, Person person) {
+        Set<Person> persons = personsByWord.get(word);
+        if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+            return;
+        }
+        personsByWord.remove(word);
+        sortedWords.remove(word);
+        if (!isApproximate) {
+            return;
+        }
+        for (String gram : getGrams(word)) {
+            Set<String> words = wordsByGram.get(gram);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByGram.remove(gram);
+            }
+        }
+        // Removed words stay in the tree until they outnumber the words left, when the tree is rebuilt without them
+        if (wordTree.size() > 2 * sortedWords.size()) {
+            wordTree.clear();
+            sortedWords.forEach(wordTree::add);
+        }
+    }
+
+    void clear() {
+        personsByWord.clear();
+        sortedWords.clear();
+        wordsByGram.clear();
+        wordTree.clear();
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons under {@code word}, which must already be case-folded.
+     */
+    Set<Person> get(String word) {
+        Set<Person> persons = personsByWord.get(word);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Adds the persons under each word that starts with {@code prefix} to {@code result}.
+     * {@code prefix} must already be case-folded and must not be empty.
+     */
+    void collectStartingWith(String prefix, Set<Person> result) {
+        for (String word : sortedWords.tailSet(prefix, true)) {
+            if (!word.startsWith(prefix)) {
+                break;
+            }
+            result.addAll(personsByWord.get(word));
+        }
+    }
+
+    /**
+     * Returns the number of persons under the words that start with {@code prefix}, counting a person once for each
+     * of those words they are under, without collecting them.
+     * {@code prefix} must already be case-folded and must not be empty.
+     */
+    int countStartingWith(String prefix) {
+        int count = 0;
+        for (String word : sortedWords.tailSet(prefix, true)) {
+            if (!word.startsWith(prefix)) {
+                break;
+            }
+            count += personsByWord.get(word).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of persons under the words that satisfy {@code matcher}, counting a person once for each
+     * of those words they are under, without collecting them.
+     */
+    int countMatching(Predicate<String> matcher) {
+        int count = 0;
+        for (String word : sortedWords) {
+            if (matcher.test(word)) {
+                count += personsByWord.get(word).size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds the persons under each word that satisfies {@code matcher} to {@code result}.
+     */
+    void collectMatching(Predicate<String> matcher, Set<Person> result) {
+        for (String word : sortedWords) {
+            if (matcher.test(word)) {
+                result.addAll(personsByWord.get(word));
+            }
+        }
+    }
+
+    /**
+     * Adds the persons under each word that contains {@code part} to {@code result}.
+     * {@code part} must already be case-folded and must not be empty.
+     */
+    void collectContaining(String part, Set<Person> result) {
+        assert isApproximate;
+        Iterable<String> candidates = part.length() < GRAM_LENGTH ? sortedWords : getRarestGramWords(part);
+        for (String word : candidates) {
+            if (word.contains(part)) {
+                result.addAll(personsByWord.get(word));
+            }
+        }
+    }
+
+    /**
+     * Puts the persons under each word within {@code maxDistance} edits of {@code word} into {@code result}, mapped to
+     * the smallest distance of their words from {@code word}.
+     * {@code word} must already be case-folded.
+     */
+    void collectWithin(String word, int maxDistance, Map<Person, Integer> result) {
+        assert isApproximate;
+        wordTree.forEachWithin(word, maxDistance, (candidate, distance) -> {
+            Set<Person> persons = personsByWord.get(candidate);
+            if (persons == null) {
+                return; // removed since it was added to the tree
+            }
+            for (Person person : persons) {
+                result.merge(person, distance, Math::min);
+            }
+        });
+    }
+
+    /**
+     * Returns the words that contain the run of characters in {@code part} shared by the fewest words.
+     * Every word that contains {@code part} is among them.
+     */
+    private Set<String> getRarestGramWords(String part) {
+        Set<String> rarest = null;
+        for (String gram : getGrams(part)) {
+            Set<String> words = wordsByGram.getOrDefault(gram, Collections.emptySet());
+            if (rarest == null || words.size() < rarest.size()) {
+                rarest = words;
+            }
+        }
+        return rarest;
+    }
+
+    private static Set<String> getGrams(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns a new identity set that starts with room for a few persons, since most words, such as GitHub usernames
+     * and phone numbers, belong to a single person, and a set with the default capacity takes several times the
+     * memory of the person it holds.
+     */
+    private static Set<Person> newSmallIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>(1));
+    }
+
+    static Set<Person> newIdentitySet() {
+        // Persons are looked up by the instances held in the list, which is cheaper than hashing all their fields
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person} matches all of a list of queries.
+ */
+public class AndQuery extends Query {
+    private final List<Query> operands;
+
+    /**
+     * Creates a query matching the persons that all of {@code operands} match.
+     */
+    public AndQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "AND needs at least two operands");
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().allMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    QueryPlan plan(PersonSearchIndex index) {
+        // Most selective first by the counts from the index, so that only the persons of the most selective operand
+        // are found, and the fewest persons are carried on to the later operands
+        Map<QueryPlan, Query> operandsByStep = new IdentityHashMap<>();
+        for (Query operand : operands) {
+            operandsByStep.put(operand.plan(index), operand);
+        }
+        List<QueryPlan> steps = operandsByStep.keySet().stream()
+                .sorted(Comparator.comparingInt(QueryPlan::getEstimate))
+                .collect(Collectors.toList());
+
+        QueryPlan start = steps.stream().filter(QueryPlan::isFound).findFirst().orElse(null);
+        if (start == null) {
+            return QueryPlan.tested("AND, testing each person against the most selective operands first",
+                    steps.get(0).getEstimate(), person -> steps.stream().allMatch(step -> step.test(person)), steps);
+        }
+
+        // Narrow down the persons found by the most selective operand by testing them against the other operands
+        // directly, rather than finding every operand's persons
+        List<Query> others = steps.stream()
+                .filter(step -> step != start)
+                .map(operandsByStep::get)
+                .collect(Collectors.toList());
+        return QueryPlan.foundAtMost("AND, narrowing down the persons found by the most selective operand",
+                start.getEstimate(), () -> {
+                    Set<Person> matches = PersonSearchIndex.newIdentitySet();
+                    matches.addAll(start.getMatches());
+                    for (Query other : others) {
+                        matches.removeIf(person -> !other.test(person));
+                    }
+                    return matches;
+                }, steps);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherAndQuery = (AndQuery) other;
+        return operands.equals(otherAndQuery.operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests that a field of a {@code Person} matches a value, as written {@code field:value} in a query.
+ */
+public class FieldQuery extends Query {
+    private final QueryField field;
+    private final String value;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a clause matching persons whose {@code field} matches {@code value}.
+     */
+    public FieldQuery(QueryField field, String value) {
+        requireAllNonNull(field, value);
+        this.field = field;
+        this.value = value;
+        this.predicate = field.toPredicate(value);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.test(person);
+    }
+
+    @Override
+    QueryPlan plan(PersonSearchIndex index) {
+        return QueryPlan.found(field.getName() + ":" + value + " via " + field.getIndexDescription(),
+                field.count(index, value), () -> field.lookUp(index, value), List.of());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery)) {
+            return false;
+        }
+
+        FieldQuery otherFieldQuery = (FieldQuery) other;
+        return field == otherFieldQuery.field && value.equals(otherFieldQuery.value);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field.getName())
+                .add("value", value)
+                .toString();
+    }
+}
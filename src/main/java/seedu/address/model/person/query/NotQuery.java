@@ -0,0 +1,58 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person} does not match a query.
+ */
+public class NotQuery extends Query {
+    private final Query operand;
+
+    /**
+     * Creates a query matching the persons that {@code operand} does not match.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    QueryPlan plan(PersonSearchIndex index) {
+        // The persons not found by the operand cannot be listed without going through every person, so they are
+        // tested one at a time instead, which is cheap when the operand's persons were found through the index
+        QueryPlan operandPlan = operand.plan(index);
+        return QueryPlan.tested("NOT, testing each person", Math.max(0, index.size() - operandPlan.getEstimate()),
+                person -> !operandPlan.test(person), List.of(operandPlan));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return operand.equals(otherNotQuery.operand);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
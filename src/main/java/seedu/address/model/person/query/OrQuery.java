@@ -0,0 +1,77 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person} matches any of a list of queries.
+ */
+public class OrQuery extends Query {
+    private final List<Query> operands;
+
+    /**
+     * Creates a query matching the persons that any of {@code operands} match.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "OR needs at least two operands");
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().anyMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    QueryPlan plan(PersonSearchIndex index) {
+        // Least selective first, so that testing a person stops at the operand most likely to match them
+        List<QueryPlan> steps = operands.stream()
+                .map(operand -> operand.plan(index))
+                .sorted(Comparator.comparingInt(QueryPlan::getEstimate).reversed())
+                .collect(Collectors.toList());
+        int estimate = (int) Math.min(index.size(), steps.stream().mapToLong(QueryPlan::getEstimate).sum());
+
+        if (!steps.stream().allMatch(QueryPlan::isFound)) {
+            return QueryPlan.tested("OR, testing each person against the least selective operands first", estimate,
+                    person -> steps.stream().anyMatch(step -> step.test(person)), steps);
+        }
+
+        return QueryPlan.foundAtMost("OR, combining the persons found by each operand", estimate, () -> {
+            Set<Person> matches = PersonSearchIndex.newIdentitySet();
+            for (QueryPlan step : steps) {
+                matches.addAll(step.getMatches());
+            }
+            return matches;
+        }, steps);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return operands.equals(otherOrQuery.operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
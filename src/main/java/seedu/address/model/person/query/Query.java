@@ -0,0 +1,54 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * A condition on the fields of a person, made up of {@link FieldQuery} clauses combined with AND, OR and NOT.
+ * A query can be tested against each person directly, or planned against a {@link PersonSearchIndex}, which looks
+ * the clauses up in the index and tests the most selective clauses first.
+ */
+public abstract class Query implements Predicate<Person> {
+
+    /**
+     * Returns the plan for finding the persons in {@code index} that match this query.
+     */
+    abstract QueryPlan plan(PersonSearchIndex index);
+
+    /**
+     * Returns a predicate that matches the same persons as this query, but finds them by planning the query against
+     * {@code index}. The query is planned again only when the index has changed since it was last planned.
+     * {@code index} must be kept in sync with the list of persons being tested.
+     */
+    public Predicate<Person> using(PersonSearchIndex index) {
+        requireNonNull(index);
+        return new IndexedPredicate<>(index, this::plan, QueryPlan::test,
+                plan -> plan.isFound() ? plan.getMatches() : null);
+    }
+
+    /**
+     * Returns lines describing how the persons in {@code index} that match this query are found, with the indexes
+     * used and the number of persons each step matches.
+     */
+    public List<String> explain(PersonSearchIndex index) {
+        requireNonNull(index);
+        QueryPlan plan = plan(index);
+        if (plan.isFound()) {
+            // Find the persons, so that the number listed for the whole query is exact
+            plan.getMatches();
+        }
+        List<String> lines = new ArrayList<>();
+        plan.explain(lines, 0);
+        lines.add(plan.isFound()
+                ? "Persons are listed by looking them up in the found persons."
+                : "Each of the " + index.size() + " persons is tested against the plan.");
+        return lines;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.person.query;
+
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * The fields of a person that a {@link FieldQuery} can test, each with the index used to look the persons up.
+ */
+public enum QueryField {
+    NAME("name", "name word index",
+            value -> person -> StringUtil.containsWordIgnoreCase(person.getName().fullName, value),
+            PersonSearchIndex::getPersonsWithNameWord,
+            (index, value) -> index.getPersonsWithNameWord(value).size()),
+    EMAIL("email", "email hash index",
+            value -> person -> person.getEmail().value.equalsIgnoreCase(value),
+            PersonSearchIndex::getPersonsWithEmail,
+            (index, value) -> index.getPersonsWithEmail(value).size()),
+    DOMAIN("domain", "email domain index",
+            value -> person -> PersonSearchIndex.getEmailDomain(person).equalsIgnoreCase(value),
+            PersonSearchIndex::getPersonsWithEmailDomain,
+            (index, value) -> index.getPersonsWithEmailDomain(value).size()),
+    PHONE("phone", "phone number prefix index",
+            value -> person -> person.getPhone().value.startsWith(value),
+            PersonSearchIndex::findByPhonePrefix,
+            PersonSearchIndex::countByPhonePrefix),
+    GITHUB("github", "GitHub username index",
+            value -> person -> person.getGithub().value.equalsIgnoreCase(value),
+            PersonSearchIndex::getPersonsWithGithub,
+            (index, value) -> index.getPersonsWithGithub(value).size()),
+    TEAM("team", "team name index",
+            value -> person -> person.getTeamName().equalsIgnoreCase(value),
+            PersonSearchIndex::getPersonsInTeam,
+            (index, value) -> index.getPersonsInTeam(value).size()),
+    SLOT("slot", "team name index, testing each team name against the pattern",
+            value -> {
+                Predicate<String> matcher = toTeamNameMatcher(value);
+                return person -> matcher.test(PersonSearchIndex.foldCase(person.getTeamName()));
+            },
+            (index, value) -> index.findByTeamName(toTeamNameMatcher(value)),
+            (index, value) -> index.countByTeamName(toTeamNameMatcher(value)));
+
+    private final String name;
+    private final String indexDescription;
+    private final Function<String, Predicate<Person>> predicateFactory;
+    private final BiFunction<PersonSearchIndex, String, Set<Person>> lookup;
+    private final ToIntBiFunction<PersonSearchIndex, String> counter;
+
+    QueryField(String name, String indexDescription, Function<String, Predicate<Person>> predicateFactory,
+            BiFunction<PersonSearchIndex, String, Set<Person>> lookup,
+            ToIntBiFunction<PersonSearchIndex, String> counter) {
+        this.name = name;
+        this.indexDescription = indexDescription;
+        this.predicateFactory = predicateFactory;
+        this.lookup = lookup;
+        this.counter = counter;
+    }
+
+    /**
+     * Returns the name of the field, as written in queries.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a description of the index used to look up persons by this field.
+     */
+    public String getIndexDescription() {
+        return indexDescription;
+    }
+
+    /**
+     * Returns the field with the given name, ignoring case, or null if there is none.
+     */
+    public static QueryField fromName(String name) {
+        for (QueryField field : values()) {
+            if (field.name.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a predicate that tests whether this field of a person matches {@code value}.
+     */
+    Predicate<Person> toPredicate(String value) {
+        return predicateFactory.apply(value);
+    }
+
+    /**
+     * Returns the persons in {@code index} whose field matches {@code value}.
+     */
+    Set<Person> lookUp(PersonSearchIndex index, String value) {
+        return lookup.apply(index, value);
+    }
+
+    /**
+     * Returns the number of persons in {@code index} whose field matches {@code value}, from the sizes of the
+     * index entries they are under, without finding them.
+     */
+    int count(PersonSearchIndex index, String value) {
+        return counter.applyAsInt(index, value);
+    }
+
+    /**
+     * Returns a matcher of case-folded team names for {@code pattern}, in which {@code *} stands for any run of
+     * characters and {@code ?} for any single character.
+     */
+    private static Predicate<String> toTeamNameMatcher(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : PersonSearchIndex.foldCase(pattern).toCharArray()) {
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        Pattern compiled = Pattern.compile(regex.toString());
+        return teamName -> !teamName.isEmpty() && compiled.matcher(teamName).matches();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person.query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A step in evaluating a {@link Query} against a {@code PersonSearchIndex}, which either finds the matching persons
+ * through the index, or has to test persons one at a time.
+ * The persons of a step that finds them are only found when they are first needed, so that planning a query only
+ * costs the counts from the index that the steps are ordered by.
+ */
+final class QueryPlan {
+    private final String description;
+    private final Supplier<Set<Person>> finder;
+    private final int estimate;
+    private final boolean isExact;
+    private final Predicate<Person> test;
+    private final List<QueryPlan> steps;
+    private volatile Set<Person> matches;
+
+    private QueryPlan(String description, Supplier<Set<Person>> finder, int estimate, boolean isExact,
+            Predicate<Person> test, List<QueryPlan> steps) {
+        this.description = description;
+        this.finder = finder;
+        this.estimate = estimate;
+        this.isExact = isExact;
+        this.test = test;
+        this.steps = steps;
+    }
+
+    /**
+     * Creates a step that finds the {@code count} matching persons through the index with {@code finder}.
+     */
+    static QueryPlan found(String description, int count, Supplier<Set<Person>> finder, List<QueryPlan> steps) {
+        return new QueryPlan(description, finder, count, true, null, steps);
+    }
+
+    /**
+     * Creates a step that finds at most {@code maxCount} matching persons through the index with {@code finder}.
+     */
+    static QueryPlan foundAtMost(String description, int maxCount, Supplier<Set<Person>> finder,
+            List<QueryPlan> steps) {
+        return new QueryPlan(description, finder, maxCount, false, null, steps);
+    }
+
+    /**
+     * Creates a step that has to test persons with {@code test}, which is expected to pass about {@code estimate}
+     * persons.
+     */
+    static QueryPlan tested(String description, int estimate, Predicate<Person> test, List<QueryPlan> steps) {
+        return new QueryPlan(description, null, estimate, false, test, steps);
+    }
+
+    /**
+     * Returns true if the matching persons are found through the index.
+     */
+    boolean isFound() {
+        return finder != null;
+    }
+
+    /**
+     * Returns the persons found through the index, finding them on the first call.
+     * Must only be called if {@link #isFound()}.
+     */
+    Set<Person> getMatches() {
+        assert finder != null;
+        Set<Person> result = matches;
+        if (result == null) {
+            synchronized (this) {
+                result = matches;
+                if (result == null) {
+                    result = finder.get();
+                    matches = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons that match if it is known, or else an estimate of it.
+     */
+    int getEstimate() {
+        Set<Person> result = matches;
+        return result == null ? estimate : result.size();
+    }
+
+    /**
+     * Returns true if {@code person} matches. Persons found through the index are tested by looking them up in the
+     * found persons.
+     */
+    boolean test(Person person) {
+        return isFound() ? getMatches().contains(person) : test.test(person);
+    }
+
+    /**
+     * Adds a line describing this step, and then the lines of the steps it is made of indented by one more level,
+     * to {@code lines}.
+     */
+    void explain(List<String> lines, int depth) {
+        int count = getEstimate();
+        boolean isKnown = isExact || matches != null;
+        lines.add("  ".repeat(depth) + description + " -> " + (isKnown ? "" : "about ") + count
+                + (count == 1 ? " person" : " persons"));
+        for (QueryPlan step : steps) {
+            step.explain(lines, depth + 1);
+        }
+    }
+}
@@ -2,17 +2,25 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
 import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.team.exceptions.TeamMaxCapacityException;
 
 /**
  * Wraps all data at the team level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Members are found by their {@link Person#getId() id}, which is kept in a small array alongside the member list,
+ * so membership checks and replacing an edited member compare a few ints rather than the members' fields. A person
+ * with another id, such as an equal person created separately, is found by {@link Person#isSamePerson(Person)}.
  */
 public class Team {
 
@@ -29,7 +37,11 @@ public class Team {
     private static final int MAX_CAPACITY = 5;
 
     private final String name;
-    private final UniquePersonList persons;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Person> unmodifiablePersons;
+    // memberIds[i] is the id of persons.get(i)
+    private final int[] memberIds = new int[MAX_CAPACITY];
+    private CollationKey collationKey;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -39,7 +51,8 @@ public class Team {
      *   among constructors.
      */
     {
-        persons = new UniquePersonList();
+        persons = FXCollections.observableArrayList();
+        unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
     }
 
     /**
@@ -80,10 +93,21 @@ public class Team {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) throws TeamMaxCapacityException {
+        requireNonNull(persons);
         if (persons.size() > MAX_CAPACITY) {
             throw new TeamMaxCapacityException();
         }
-        this.persons.setPersons(persons);
+        for (int i = 0; i < persons.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                if (isSameMember(persons.get(i), persons.get(j))) {
+                    throw new DuplicatePersonException();
+                }
+            }
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            memberIds[i] = persons.get(i).getId();
+        }
+        this.persons.setAll(persons);
     }
 
     /**
@@ -106,11 +130,11 @@ public class Team {
     //// person-level operations
 
     /**
-     * Returns true if a person with the same identity as {@code person} exists in the team.
+     * Returns true if {@code person}, or another version of them, exists in the team.
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return persons.contains(person);
+        return indexOf(person) >= 0;
     }
 
     /**
@@ -118,35 +142,98 @@ public class Team {
      * The person must not already exist in the team.
      */
     public void addPerson(Person p) {
+        requireNonNull(p);
         if (persons.size() + 1 > MAX_CAPACITY) {
             throw new TeamMaxCapacityException();
         }
+        if (persons.stream().anyMatch(member -> isSameMember(member, p))) {
+            throw new DuplicatePersonException();
+        }
+        memberIds[persons.size()] = p.getId();
         persons.add(p);
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
-     * {@code target} must exist in the team.
+     * {@code target}, or another version of them, must exist in the team.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the team.
      */
     public void setPerson(Person target, Person editedPerson) {
+        requireNonNull(target);
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = indexOf(target);
+        if (index < 0) {
+            throw new PersonNotFoundException();
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (i != index && isSameMember(persons.get(i), editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        memberIds[index] = editedPerson.getId();
+        persons.set(index, editedPerson);
     }
 
     /**
-     * Removes {@code key} from this {@code Team}.
+     * Removes {@code key}, or another version of them, from this {@code Team}.
      * {@code key} must exist in the team.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        requireNonNull(key);
+        int index = indexOf(key);
+        if (index < 0) {
+            throw new PersonNotFoundException();
+        }
+        System.arraycopy(memberIds, index + 1, memberIds, index, persons.size() - index - 1);
+        persons.remove(index);
+    }
+
+    /**
+     * Returns the position of {@code person}, or another version of them, or -1 if they are not in the team.
+     * Members are compared by id first, and by {@link Person#isSamePerson(Person)} only if none has the same id.
+     */
+    private int indexOf(Person person) {
+        int index = indexOf(person.getId());
+        for (int i = 0; index < 0 && i < persons.size(); i++) {
+            if (persons.get(i).isSamePerson(person)) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of the member with id {@code personId}, or -1 if there is none.
+     */
+    private int indexOf(int personId) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (memberIds[i] == personId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSameMember(Person first, Person second) {
+        return first.getId() == second.getId() || first.isSamePerson(second);
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Returns a key that sorts this team's name alphabetically, ignoring case.
+     * The key is computed when this team is first sorted, and kept for later sorts.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = StringUtil.getCollationKey(name);
+        }
+        return collationKey;
+    }
+
     //// util methods
 
     /**
@@ -175,7 +262,7 @@ public class Team {
     }
 
     public ObservableList<Person> getPersonList() {
-        return persons.asUnmodifiableObservableList();
+        return unmodifiablePersons;
     }
 
     @Override
@@ -191,12 +278,47 @@ public class Team {
 
         Team otherTeam = (Team) other;
         return name.equals(otherTeam.name)
-                && otherTeam.persons.hasSamePeople(persons);
+                && hasSameMembers(otherTeam);
+    }
+
+    /**
+     * Returns true if both teams have equal members, in any order.
+     * Each member is first compared with the other team's member with the same id, which is usually an equal
+     * person; teams with at most {@code MAX_CAPACITY} members are otherwise compared pairwise without hashing.
+     */
+    private boolean hasSameMembers(Team otherTeam) {
+        int size = persons.size();
+        if (size != otherTeam.persons.size()) {
+            return false;
+        }
+        boolean[] isMatched = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Person member = persons.get(i);
+            int match = otherTeam.indexOf(member.getId());
+            if (match < 0 || isMatched[match] || !member.equals(otherTeam.persons.get(match))) {
+                match = findUnmatchedEqual(member, otherTeam.persons, isMatched);
+            }
+            if (match < 0) {
+                return false;
+            }
+            isMatched[match] = true;
+        }
+        return true;
+    }
+
+    private static int findUnmatchedEqual(Person person, List<Person> candidates, boolean[] isMatched) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!isMatched[i] && person.equals(candidates.get(i))) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     @Override
     public int hashCode() {
-        return name.hashCode() + persons.hashCode();
+        // Summed so that the order of members does not matter, as in equals
+        return name.hashCode() + persons.stream().mapToInt(Person::hashCode).sum();
     }
 
     @Override
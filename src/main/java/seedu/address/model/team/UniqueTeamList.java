@@ -3,11 +3,19 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.commons.util.PositionIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
@@ -21,6 +29,14 @@ import seedu.address.model.team.exceptions.TeamNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Teams are additionally kept in a map keyed by team name, so name-based lookups and uniqueness checks do not scan
+ * the list, and their positions are kept in a {@link PositionIndex}, so teams are replaced and removed without
+ * searching the list for them.
+ *
+ * A reverse index from member {@link Person#getId() id} to the owning team is maintained by observing the person
+ * list of every team in this list, so membership queries do not scan every team. A second one from member email
+ * finds the team of a person with another id, such as an equal person created separately.
+ *
  * @see Team#equals(Object)
  */
 public class UniqueTeamList implements Iterable<Team> {
@@ -29,13 +45,21 @@ public class UniqueTeamList implements Iterable<Team> {
     private final ObservableList<Team> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<String, Team> teamsByName = new HashMap<>();
+    private final PositionIndex<Team> positions = new PositionIndex<>(internalList);
+
+    // Reverse index from member id to the team containing that member
+    private final Map<Integer, Team> teamByMemberId = new HashMap<>();
+    // Reverse index from member email to the team containing that member
+    private final Map<String, Team> teamByMemberEmail = new HashMap<>();
+    private final Map<Team, MembershipTracker> trackers = new IdentityHashMap<>();
+
     /**
      * Returns true if the list contains an equivalent team as the given argument.
      */
     public boolean contains(Team toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream()
-                .anyMatch(toCheck::isSameTeamName);
+        return teamsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -43,7 +67,7 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public boolean containsTeamWithName(String teamName) {
         requireNonNull(teamName);
-        return internalList.stream().anyMatch(team -> team.getName().equals(teamName));
+        return teamsByName.containsKey(teamName);
     }
 
     /**
@@ -51,22 +75,17 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public Team getTeamByName(String teamName) {
         requireNonNull(teamName);
-        return internalList.stream()
-                .filter(team -> team.getName().equals(teamName))
-                .findFirst()
-                .orElse(null);
+        return teamsByName.get(teamName);
     }
 
     /**
-     * Returns the team that contains the given person.
+     * Returns the team that contains the given person, or another version of them.
      * Returns null if the person is not in any team.
      */
     public Team getTeamContainingPerson(Person person) {
         requireNonNull(person);
-        return internalList.stream()
-                .filter(team -> team.hasPerson(person))
-                .findFirst()
-                .orElse(null);
+        Team team = teamByMemberId.get(person.getId());
+        return team != null ? team : teamByMemberEmail.get(emailKey(person));
     }
 
     /**
@@ -78,7 +97,10 @@ public class UniqueTeamList implements Iterable<Team> {
         if (contains(toAdd)) {
             throw new DuplicateTeamException();
         }
+        positions.replaced(internalList.size(), List.of(), List.of(toAdd));
         internalList.add(toAdd);
+        teamsByName.put(toAdd.getName(), toAdd);
+        track(toAdd);
     }
 
     /**
@@ -89,8 +111,8 @@ public class UniqueTeamList implements Iterable<Team> {
     public void setTeam(Team target, Team editedTeam) {
         requireAllNonNull(target, editedTeam);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Team existing = findEqualTeam(target);
+        if (existing == null) {
             throw new TeamNotFoundException();
         }
 
@@ -98,7 +120,13 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
 
-        internalList.set(index, editedTeam);
+        int position = positions.indexOf(existing);
+        positions.replaced(position, List.of(existing), List.of(editedTeam));
+        internalList.set(position, editedTeam);
+        teamsByName.remove(existing.getName());
+        teamsByName.put(editedTeam.getName(), editedTeam);
+        untrack(existing);
+        track(editedTeam);
     }
 
     /**
@@ -107,14 +135,51 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public void remove(Team toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Team existing = findEqualTeam(toRemove);
+        if (existing == null) {
             throw new TeamNotFoundException();
         }
+        int position = positions.indexOf(existing);
+        positions.replaced(position, List.of(existing), List.of());
+        internalList.remove(position);
+        teamsByName.remove(existing.getName());
+        untrack(existing);
+    }
+
+    /**
+     * Replaces the teams from {@code from} up to {@code to} with {@code replacement}.
+     * This restores an earlier state of the list, so {@code replacement} is not checked for duplicates, and must not
+     * share a name with the teams that are kept.
+     */
+    public void replace(int from, int to, List<Team> replacement) {
+        requireAllNonNull(replacement);
+        List<Team> removed = List.copyOf(internalList.subList(from, to));
+        for (Team team : removed) {
+            teamsByName.remove(team.getName());
+            untrack(team);
+        }
+        positions.replaced(from, removed, replacement);
+
+        int replaced = Math.min(removed.size(), replacement.size());
+        for (int i = 0; i < replaced; i++) {
+            internalList.set(from + i, replacement.get(i));
+        }
+        internalList.remove(from + replaced, to);
+        internalList.addAll(from + replaced, replacement.subList(replaced, replacement.size()));
+
+        for (Team team : replacement) {
+            teamsByName.put(team.getName(), team);
+            track(team);
+        }
     }
 
     public void setTeams(UniqueTeamList replacement) {
         requireNonNull(replacement);
+        positions.reset();
         internalList.setAll(replacement.internalList);
+        teamsByName.clear();
+        teamsByName.putAll(replacement.teamsByName);
+        retrackAll();
     }
 
     /**
@@ -126,7 +191,11 @@ public class UniqueTeamList implements Iterable<Team> {
         if (!teamsAreUnique(teams)) {
             throw new DuplicateTeamException();
         }
+        positions.reset();
         internalList.setAll(teams);
+        teamsByName.clear();
+        teams.forEach(team -> teamsByName.put(team.getName(), team));
+        retrackAll();
     }
 
     /**
@@ -166,15 +235,92 @@ public class UniqueTeamList implements Iterable<Team> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the team in the list that is equal to {@code team} by {@code Team#equals(Object)}, or null if there is
+     * none. Team names are unique, so only the team with the same name needs to be compared.
+     */
+    private Team findEqualTeam(Team team) {
+        Team sameName = teamsByName.get(team.getName());
+        return team.equals(sameName) ? sameName : null;
+    }
+
+    private void track(Team team) {
+        MembershipTracker tracker = new MembershipTracker(team);
+        trackers.put(team, tracker);
+        tracker.attach();
+    }
+
+    private void untrack(Team team) {
+        MembershipTracker tracker = trackers.remove(team);
+        if (tracker != null) {
+            tracker.detach();
+        }
+    }
+
+    private void retrackAll() {
+        trackers.values().forEach(MembershipTracker::detach);
+        trackers.clear();
+        internalList.forEach(this::track);
+    }
+
+    private void indexMember(Person member, Team team) {
+        teamByMemberId.put(member.getId(), team);
+        teamByMemberEmail.put(emailKey(member), team);
+    }
+
+    private void unindexMember(Person member, Team team) {
+        teamByMemberId.remove(member.getId(), team);
+        teamByMemberEmail.remove(emailKey(member), team);
+    }
+
+    private static String emailKey(Person person) {
+        // Email values are normalized to lowercase on construction
+        return person.getEmail().value;
+    }
+
+    /**
+     * Keeps the reverse index in sync with the members of a single team.
+     * The team only holds a weak reference to this listener, so a discarded {@code UniqueTeamList} does not stay
+     * reachable through teams it shares with other lists.
+     */
+    private class MembershipTracker implements ListChangeListener<Person> {
+        private final Team team;
+        private final WeakListChangeListener<Person> weakListener = new WeakListChangeListener<>(this);
+
+        private MembershipTracker(Team team) {
+            this.team = team;
+        }
+
+        private void attach() {
+            team.getPersonList().forEach(member -> indexMember(member, team));
+            team.getPersonList().addListener(weakListener);
+        }
+
+        private void detach() {
+            team.getPersonList().removeListener(weakListener);
+            team.getPersonList().forEach(member -> unindexMember(member, team));
+        }
+
+        @Override
+        public void onChanged(Change<? extends Person> change) {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(member -> unindexMember(member, team));
+                change.getAddedSubList().forEach(member -> indexMember(member, team));
+            }
+        }
+    }
+
     /**
      * Returns true if {@code teams} contains only unique teams.
      */
     private boolean teamsAreUnique(List<Team> teams) {
-        for (int i = 0; i < teams.size() - 1; i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                if (teams.get(i).isSameTeamName(teams.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        for (Team team : teams) {
+            if (!seenNames.add(team.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.EXCEED_TEAM_CAPACITY_MESSAGE_FORMAT;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM;
+import static seedu.address.storage.JsonSerializableAddressBook.MISSING_PERSON_MESSAGE_FORMAT;
+import static seedu.address.storage.JsonSerializableAddressBook.MISSING_TEAM_MESSAGE_FORMAT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.TeamMaxCapacityException;
+
+/**
+ * Builds the model's {@code AddressBook} from Jackson-friendly persons and teams, which are given one at a time and
+ * in any order, so that they can be converted while being read.
+ * Duplicate checks and member resolution are done with hash lookups, so assembling is linear in the size of the
+ * address book.
+ */
+class AddressBookAssembler implements JsonAddressBookStorage.ContentHandler {
+
+    private static final String NO_TEAM_KEY = ""; // Key used to represent no team (Team.NONE)
+
+    /** Teams that have been declared, or only referenced by a person so far, by name. */
+    private final Map<String, Team> teamsByName = new HashMap<>();
+    /** Member emails of the teams that have been declared, in the order they were declared. */
+    private final Map<String, List<Email>> memberEmailsByTeamName = new LinkedHashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+
+    AddressBookAssembler() {
+        teamsByName.put(NO_TEAM_KEY, Team.NONE);
+    }
+
+    /**
+     * Converts and adds a team. Its members are resolved when the address book is built.
+     *
+     * @throws IllegalValueException if the team is invalid or a team with the same name was already added.
+     */
+    @Override
+    public void addTeam(JsonAdaptedTeam jsonAdaptedTeam) throws IllegalValueException {
+        Team team = jsonAdaptedTeam.toModelType();
+        if (memberEmailsByTeamName.containsKey(team.getName())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
+        }
+        // Reuse the team created for persons that referenced it earlier
+        teamsByName.putIfAbsent(team.getName(), team);
+        memberEmailsByTeamName.put(team.getName(), jsonAdaptedTeam.getMemberEmail());
+    }
+
+    /**
+     * Converts and adds a person. The team it refers to may be added later.
+     *
+     * @throws IllegalValueException if the person is invalid.
+     */
+    @Override
+    public void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        String teamName = jsonAdaptedPerson.getTeamName();
+        if (teamName != null && Team.isValidName(teamName)) {
+            teamsByName.computeIfAbsent(teamName, Team::new);
+        }
+        persons.add(jsonAdaptedPerson.toModelType(teamsByName));
+    }
+
+    /**
+     * Returns the address book made up of everything added so far.
+     *
+     * @throws IllegalValueException if there are duplicate persons, a person refers to a team that was not added,
+     *     or a team has a member that was not added or too many members.
+     */
+    AddressBook build() throws IllegalValueException {
+        for (String teamName : teamsByName.keySet()) {
+            if (!teamName.equals(NO_TEAM_KEY) && !memberEmailsByTeamName.containsKey(teamName)) {
+                throw new IllegalValueException(String.format(MISSING_TEAM_MESSAGE_FORMAT, teamName));
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        List<Team> teams = new ArrayList<>();
+        for (String teamName : memberEmailsByTeamName.keySet()) {
+            teams.add(teamsByName.get(teamName));
+        }
+        addressBook.setTeams(teams);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        populateTeamsFromMembers();
+        return addressBook;
+    }
+
+    /**
+     * Wires team memberships using the member emails captured for each team.
+     */
+    private void populateTeamsFromMembers() throws IllegalValueException {
+        Map<Email, Person> personsByEmail = new HashMap<>();
+        for (Person person : persons) {
+            personsByEmail.put(person.getEmail(), person);
+        }
+
+        for (Map.Entry<String, List<Email>> entry : memberEmailsByTeamName.entrySet()) {
+            Team team = teamsByName.get(entry.getKey());
+            List<Person> teamPersonList = resolvePersonsByEmail(entry.getValue(), personsByEmail);
+            try {
+                team.setPersons(teamPersonList);
+            } catch (TeamMaxCapacityException e) {
+                throw new IllegalValueException(String.format(EXCEED_TEAM_CAPACITY_MESSAGE_FORMAT, team.getName()));
+            }
+        }
+    }
+
+    /** Resolves a list of persons by their emails; fails if any email is missing. */
+    private static List<Person> resolvePersonsByEmail(List<Email> emailList, Map<Email, Person> personsByEmail)
+            throws IllegalValueException {
+        List<Person> memberList = new ArrayList<>();
+        for (Email email : emailList) {
+            Person found = personsByEmail.get(email);
+            if (found == null) {
+                throw new IllegalValueException(String.format(MISSING_PERSON_MESSAGE_FORMAT, email));
+            }
+            memberList.add(found);
+        }
+        return memberList;
+    }
+}
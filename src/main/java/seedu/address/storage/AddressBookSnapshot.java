@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ImmutableAddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A copy of an address book taken at a point in time, which can be saved from another thread while the original
+ * continues to be modified.
+ * Teams are copied as well since their member lists are mutable; persons are immutable and shared with the original.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Team> teams;
+
+    private AddressBookSnapshot(List<Person> persons, List<Team> teams) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.teams = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(teams));
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code source}, which is {@code source} itself if it is an
+     * {@link ImmutableAddressBook}.
+     */
+    static ReadOnlyAddressBook of(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        if (source instanceof ImmutableAddressBook) {
+            return source;
+        }
+        List<Team> teams = source.getTeamList().stream()
+                .map(team -> new Team(team.getName(), team.getPersonList()))
+                .collect(Collectors.toList());
+        return new AddressBookSnapshot(source.getPersonList(), teams);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Team> getTeamList() {
+        return teams;
+    }
+}
@@ -42,4 +42,27 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the current state of {@code addressBook} and returns a task that saves that state to the storage.
+     * The task may be run later on another thread, while {@code addressBook} continues to be modified.
+     * Tasks must be run in the order they were prepared.
+     * @param addressBook cannot be null.
+     */
+    default SaveTask prepareSave(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        return () -> saveAddressBook(snapshot);
+    }
+
+    /**
+     * A save of an address book, prepared by {@link #prepareSave(ReadOnlyAddressBook)}.
+     */
+    @FunctionalInterface
+    interface SaveTask {
+        /**
+         * Writes the captured address book to the storage.
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void run() throws IOException;
+    }
+
 }
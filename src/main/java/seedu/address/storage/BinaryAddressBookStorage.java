@@ -0,0 +1,281 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of the team names used in the file,
+ * the persons (each referring to its team by its position in the table) and the teams (each referring to its name in
+ * the table and to its members by their positions in the person list). Strings are stored as UTF-8 and prefixed by
+ * their length. The file ends with a CRC32 checksum of everything before it, so that truncated or corrupted files are
+ * rejected instead of being partially loaded.
+ * <p>
+ * Persons and teams read from the file are validated in the same way as those read by
+ * {@link JsonAddressBookStorage}, so the two formats can be converted to each other without loss.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Data file is not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION_FORMAT = "Data file format version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file is corrupted: its checksum does not match.";
+    public static final String MESSAGE_INVALID_INDEX = "Data file is corrupted: it refers to a missing entry.";
+    public static final String MESSAGE_INVALID_LENGTH = "Data file is corrupted: it contains an invalid length.";
+
+    static final int MAGIC_NUMBER = 0x53574241; // "SWBA"
+    static final int FORMAT_VERSION = 1;
+
+    private static final int NO_INDEX = -1;
+    private static final int MAX_STRING_LENGTH = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file that corresponds to the JSON data file at {@code jsonFilePath},
+     * which is a sibling file with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream fileIn = new BufferedInputStream(Channels.newInputStream(FileChannel.open(filePath)))) {
+            CheckedInputStream checkedIn = new CheckedInputStream(fileIn, new CRC32());
+            ReadOnlyAddressBook addressBook = readAddressBook(new DataInputStream(checkedIn));
+            long expectedChecksum = new DataInputStream(fileIn).readLong();
+            if (expectedChecksum != checkedIn.getChecksum().getValue()) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            return Optional.of(addressBook);
+        } catch (EOFException eofe) {
+            logger.info("Data file " + filePath + " ended unexpectedly");
+            throw new DataLoadingException(eofe);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static ReadOnlyAddressBook readAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION_FORMAT, version));
+        }
+
+        // Lists grow as entries are read, so that a corrupted count cannot cause a huge allocation
+        List<String> teamNames = new ArrayList<>();
+        int teamNameCount = readCount(in);
+        for (int i = 0; i < teamNameCount; i++) {
+            teamNames.add(readString(in));
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        List<String> emails = new ArrayList<>();
+        int personCount = readCount(in);
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(in);
+            String phone = readString(in);
+            String email = readString(in);
+            String github = readString(in);
+            int teamIndex = in.readInt();
+            String teamName = teamIndex == NO_INDEX ? Team.NONE.getName() : lookUp(teamNames, teamIndex);
+            assembler.addPerson(new JsonAdaptedPerson(name, phone, email, github, teamName));
+            emails.add(email);
+        }
+
+        int teamCount = readCount(in);
+        for (int i = 0; i < teamCount; i++) {
+            String teamName = lookUp(teamNames, in.readInt());
+            List<Email> members = new ArrayList<>();
+            int memberCount = readCount(in);
+            for (int j = 0; j < memberCount; j++) {
+                // Emails were validated when their persons were added above
+                members.add(new Email(lookUp(emails, in.readInt())));
+            }
+            assembler.addTeam(new JsonAdaptedTeam(teamName, members));
+        }
+        return assembler.build();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data file is replaced atomically, so it is never left partially written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+            DataOutputStream dataOut = new DataOutputStream(checkedOut);
+            writeAddressBook(addressBook, dataOut);
+            dataOut.flush();
+            new DataOutputStream(out).writeLong(checkedOut.getChecksum().getValue());
+        });
+    }
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+
+        // Names of teams that persons refer to are kept even if the team itself is missing, as in the JSON format
+        List<String> teamNames = new ArrayList<>();
+        Map<String, Integer> teamIndexes = new HashMap<>();
+        for (Team team : addressBook.getTeamList()) {
+            addToTable(team.getName(), teamNames, teamIndexes);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            if (!Team.isNoneTeamName(person.getTeamName())) {
+                addToTable(person.getTeamName(), teamNames, teamIndexes);
+            }
+        }
+        out.writeInt(teamNames.size());
+        for (String teamName : teamNames) {
+            writeString(out, teamName);
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Email, Integer> personIndexes = new HashMap<>();
+        out.writeInt(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            personIndexes.putIfAbsent(person.getEmail(), i);
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getGithub().value);
+            out.writeInt(Team.isNoneTeamName(person.getTeamName())
+                    ? NO_INDEX
+                    : teamIndexes.get(person.getTeamName()));
+        }
+
+        List<Team> teams = addressBook.getTeamList();
+        out.writeInt(teams.size());
+        for (Team team : teams) {
+            out.writeInt(teamIndexes.get(team.getName()));
+            List<Person> members = team.getPersonList();
+            out.writeInt(members.size());
+            for (Person member : members) {
+                // A member missing from the person list cannot be loaded from either format
+                out.writeInt(personIndexes.getOrDefault(member.getEmail(), NO_INDEX));
+            }
+        }
+    }
+
+    private static void addToTable(String value, List<String> table, Map<String, Integer> indexes) {
+        if (!indexes.containsKey(value)) {
+            indexes.put(value, table.size());
+            table.add(value);
+        }
+    }
+
+    private static String lookUp(List<String> table, int index) throws IllegalValueException {
+        if (index < 0 || index >= table.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return table.get(index);
+    }
+
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+}
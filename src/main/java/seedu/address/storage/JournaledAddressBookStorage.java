@@ -0,0 +1,471 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes made since
+ * that snapshot.
+ * <p>
+ * Changes to the address book being saved are recorded through list listeners, so a save only appends the records
+ * accumulated since the previous save instead of rewriting the whole file. The snapshot is rewritten (and the
+ * journal cleared) on the first save of an address book, after changes that cannot be expressed as records (e.g.
+ * {@code clear} or {@code import}), and once the journal grows past a threshold.
+ * <p>
+ * Each snapshot is written with a new journal id, and each record is written with the id of the last snapshot.
+ * Only records with the same id as the snapshot are replayed when reading, since a snapshot can already contain
+ * changes made after the records in an older journal. So a crash between rewriting the snapshot and clearing the
+ * journal leaves a journal that is ignored rather than replayed over newer data.
+ * A partially written last record is ignored when reading.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Journal record %d is corrupted: %s";
+
+    static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // Recording state, only accessed from the thread that modifies the address book and prepares saves.
+    private final List<SequencedRecord> pendingRecords = new ArrayList<>();
+    private final Map<Team, ListChangeListener<Person>> memberListeners = new IdentityHashMap<>();
+    private final ListChangeListener<Person> personListener = this::onPersonListChanged;
+    private final ListChangeListener<Team> teamListener = this::onTeamListChanged;
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private long lastSeq;
+    private long snapshotSeq;
+
+    // Writing state, updated by save tasks which may run on another thread.
+    private volatile long writtenSeq;
+    private volatile int journalRecordCount;
+    private volatile boolean hasFailedWrite;
+    private volatile String writtenJournal;
+
+    public JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the snapshot once the journal holds more than
+     * {@code compactionThreshold} records.
+     */
+    JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        Path snapshotPath = snapshotStorage.getAddressBookFilePath();
+        this.journalFilePath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but the journal is only replayed if {@code filePath} is the snapshot
+     * managed by this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath()) || !FileUtil.isFileExists(journalFilePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        // The snapshot is read through the same streaming parser as a plain data file
+        JournalReplay replay = new JournalReplay();
+        boolean hasSnapshot = FileUtil.isFileExists(filePath);
+        if (hasSnapshot) {
+            try {
+                JsonAddressBookStorage.readContents(filePath, replay);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from data file " + filePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        List<JsonAdaptedJournalRecord> records = readJournal();
+        if (!hasSnapshot && records.isEmpty()) {
+            return Optional.empty();
+        }
+
+        for (JsonAdaptedJournalRecord record : records) {
+            if (Objects.equals(record.getJournal(), replay.getJournal())) {
+                replay.apply(record);
+            }
+        }
+        try {
+            return Optional.of(replay.toSerializableAddressBook().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " and its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads all complete records from the journal file.
+     * A malformed final line is treated as an interrupted append and skipped.
+     */
+    private List<JsonAdaptedJournalRecord> readJournal() throws DataLoadingException {
+        String content;
+        try {
+            content = FileUtil.readFromFile(journalFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        String[] lines = content.split("\n", -1);
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                record.validate();
+                records.add(record);
+            } catch (IOException | IllegalValueException e) {
+                boolean isLastLine = i == lines.length - 1;
+                if (isLastLine) {
+                    logger.warning("Ignoring incomplete last record in " + journalFilePath);
+                    break;
+                }
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_CORRUPTED_RECORD, i + 1, e.getMessage())));
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any path other than the managed snapshot writes a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        prepareSave(addressBook).run();
+    }
+
+    /**
+     * Captures either the records made since the last completed save or, if a snapshot is due, a copy of
+     * {@code addressBook}. The returned task only writes records that earlier tasks have not written yet, so tasks
+     * that are never run are made up for by the next one.
+     */
+    @Override
+    public SaveTask prepareSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+        }
+        if (hasFailedWrite) {
+            // The journal may end in a partial record, so fall back to a full rewrite.
+            hasFailedWrite = false;
+            requireSnapshot();
+        }
+
+        long written = writtenSeq;
+        pendingRecords.removeIf(record -> record.seq <= written);
+        long upToSeq = lastSeq;
+        if (snapshotSeq > written || journalRecordCount + pendingRecords.size() > compactionThreshold) {
+            snapshotSeq = upToSeq;
+            String journal = UUID.randomUUID().toString();
+            SaveTask saveSnapshot = snapshotStorage.prepareSave(addressBook, journal);
+            return () -> writeSnapshot(saveSnapshot, journal, upToSeq);
+        }
+        List<SequencedRecord> records = new ArrayList<>(pendingRecords);
+        return () -> appendRecords(records, upToSeq);
+    }
+
+    private void writeSnapshot(SaveTask saveSnapshot, String journal, long upToSeq) throws IOException {
+        try {
+            saveSnapshot.run();
+            writtenJournal = journal;
+            Files.deleteIfExists(journalFilePath);
+        } catch (IOException ioe) {
+            hasFailedWrite = true;
+            throw ioe;
+        }
+        journalRecordCount = 0;
+        writtenSeq = upToSeq;
+    }
+
+    private void appendRecords(List<SequencedRecord> records, long upToSeq) throws IOException {
+        assert writtenJournal != null : "Records are only appended after a snapshot has been written";
+        long written = writtenSeq;
+        StringBuilder sb = new StringBuilder();
+        int count = 0;
+        for (SequencedRecord record : records) {
+            if (record.seq > written) {
+                sb.append(JsonUtil.toCompactJsonString(record.record.inJournal(writtenJournal))).append('\n');
+                count++;
+            }
+        }
+        try {
+            if (count > 0) {
+                FileUtil.appendToFile(journalFilePath, sb.toString());
+            }
+        } catch (IOException ioe) {
+            hasFailedWrite = true;
+            throw ioe;
+        }
+        journalRecordCount += count;
+        writtenSeq = Math.max(written, upToSeq);
+    }
+
+    //// change recording
+
+    /**
+     * Starts recording changes to {@code addressBook}, and stops recording changes to the previously saved one.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personListener);
+            trackedAddressBook.getTeamList().removeListener(teamListener);
+            new ArrayList<>(memberListeners.keySet()).forEach(this::untrackMembers);
+        }
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getTeamList().addListener(teamListener);
+        addressBook.getTeamList().forEach(this::trackMembers);
+        requireSnapshot();
+    }
+
+    private void trackMembers(Team team) {
+        if (memberListeners.containsKey(team)) {
+            return;
+        }
+        ListChangeListener<Person> listener = change -> onMembersChanged(team);
+        memberListeners.put(team, listener);
+        team.getPersonList().addListener(listener);
+    }
+
+    private void untrackMembers(Team team) {
+        ListChangeListener<Person> listener = memberListeners.remove(team);
+        if (listener != null) {
+            team.getPersonList().removeListener(listener);
+        }
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                record(JsonAdaptedJournalRecord.ofReplacedPerson(change.getRemoved().get(0),
+                        change.getAddedSubList().get(0)));
+            } else if (change.wasAdded() && !change.wasRemoved() && isAppend(change)) {
+                change.getAddedSubList().forEach(added -> record(JsonAdaptedJournalRecord.ofAddedPerson(added)));
+            } else if (change.wasRemoved() && !change.wasAdded()) {
+                change.getRemoved().forEach(removed -> record(JsonAdaptedJournalRecord.ofRemovedPerson(removed)));
+            } else {
+                requireSnapshot();
+            }
+        }
+    }
+
+    private void onTeamListChanged(ListChangeListener.Change<? extends Team> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::untrackMembers);
+            change.getAddedSubList().forEach(this::trackMembers);
+            if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1
+                    && change.getRemoved().get(0).isSameTeamName(change.getAddedSubList().get(0))) {
+                record(JsonAdaptedJournalRecord.ofPutTeam(change.getAddedSubList().get(0)));
+            } else if (change.wasAdded() && !change.wasRemoved() && isAppend(change)) {
+                change.getAddedSubList().forEach(added -> record(JsonAdaptedJournalRecord.ofPutTeam(added)));
+            } else if (change.wasRemoved() && !change.wasAdded()) {
+                change.getRemoved().forEach(removed -> record(JsonAdaptedJournalRecord.ofRemovedTeam(removed)));
+            } else {
+                requireSnapshot();
+            }
+        }
+    }
+
+    private void onMembersChanged(Team team) {
+        record(JsonAdaptedJournalRecord.ofPutTeam(team));
+    }
+
+    private static boolean isAppend(ListChangeListener.Change<?> change) {
+        return change.getTo() == change.getList().size();
+    }
+
+    private void record(JsonAdaptedJournalRecord record) {
+        pendingRecords.add(new SequencedRecord(++lastSeq, record));
+    }
+
+    /**
+     * Marks the changes made so far as only expressible by rewriting the snapshot.
+     */
+    private void requireSnapshot() {
+        snapshotSeq = ++lastSeq;
+    }
+
+    /**
+     * A journal record tagged with the order in which it was made.
+     */
+    private static class SequencedRecord {
+        private final long seq;
+        private final JsonAdaptedJournalRecord record;
+
+        SequencedRecord(long seq, JsonAdaptedJournalRecord record) {
+            this.seq = seq;
+            this.record = record;
+        }
+    }
+
+    //// replay
+
+    /**
+     * Applies journal records to the json form of a snapshot, which is given to it while the snapshot is read.
+     * Every operation is an upsert or a removal by key, so applying a record twice has the same effect as once.
+     * This does not make it safe to apply records older than the snapshot, which are skipped by the caller.
+     */
+    private static class JournalReplay implements JsonAddressBookStorage.ContentHandler {
+        private final List<JsonAdaptedPerson> personSlots = new ArrayList<>();
+        private final Map<String, Integer> slotByEmail = new HashMap<>();
+        private final Map<String, JsonAdaptedTeam> teamsByName = new LinkedHashMap<>();
+        private String journal;
+
+        @Override
+        public void addPerson(JsonAdaptedPerson person) {
+            putPerson(person);
+        }
+
+        @Override
+        public void addTeam(JsonAdaptedTeam team) {
+            teamsByName.put(team.getName(), team);
+        }
+
+        @Override
+        public void setJournal(String journal) {
+            this.journal = journal;
+        }
+
+        /**
+         * Returns the id of the journal whose records apply to the snapshot, or null if the snapshot has none.
+         */
+        String getJournal() {
+            return journal;
+        }
+
+        void apply(JsonAdaptedJournalRecord record) {
+            switch (record.getOperation()) {
+            case ADD_PERSON:
+                putPerson(record.getPerson());
+                break;
+            case REMOVE_PERSON:
+                removePerson(record.getKey());
+                break;
+            case REPLACE_PERSON:
+                Integer slot = slotByEmail.remove(emailKey(record.getKey()));
+                if (slot == null) {
+                    putPerson(record.getPerson());
+                } else {
+                    personSlots.set(slot, null);
+                    removePerson(record.getPerson().getEmail());
+                    personSlots.set(slot, record.getPerson());
+                    slotByEmail.put(emailKey(record.getPerson().getEmail()), slot);
+                }
+                break;
+            case PUT_TEAM:
+                teamsByName.put(record.getKey(), record.getTeam());
+                break;
+            case REMOVE_TEAM:
+                teamsByName.remove(record.getKey());
+                break;
+            default:
+                throw new AssertionError("Unknown journal operation " + record.getOperation());
+            }
+        }
+
+        private void putPerson(JsonAdaptedPerson person) {
+            String key = emailKey(person.getEmail());
+            Integer slot = slotByEmail.get(key);
+            if (slot == null) {
+                slotByEmail.put(key, personSlots.size());
+                personSlots.add(person);
+            } else {
+                personSlots.set(slot, person);
+            }
+        }
+
+        private void removePerson(String email) {
+            Integer slot = slotByEmail.remove(emailKey(email));
+            if (slot != null) {
+                personSlots.set(slot, null);
+            }
+        }
+
+        private static String emailKey(String email) {
+            return Objects.toString(email, "").toLowerCase();
+        }
+
+        JsonSerializableAddressBook toSerializableAddressBook() {
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            for (JsonAdaptedPerson person : personSlots) {
+                if (person != null) {
+                    persons.add(person);
+                }
+            }
+            return new JsonSerializableAddressBook(persons, new ArrayList<>(teamsByName.values()));
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Jackson-friendly record of a single change to the address book, as stored in the journal file of a
+ * {@link JournaledAddressBookStorage}.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    /**
+     * The kinds of changes that can be recorded.
+     */
+    enum Operation {
+        ADD_PERSON, REMOVE_PERSON, REPLACE_PERSON, PUT_TEAM, REMOVE_TEAM
+    }
+
+    private final Operation operation;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTeam team;
+    private final String journal;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     *
+     * @param key the email of the affected person for person operations, or the name of the affected team for
+     *     {@code REMOVE_TEAM}.
+     * @param journal the id of the journal the record was written to, or null if it has not been written yet.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation,
+            @JsonProperty("key") String key,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("team") JsonAdaptedTeam team,
+            @JsonProperty("journal") String journal) {
+        this.operation = operation;
+        this.key = key;
+        this.person = person;
+        this.team = team;
+        this.journal = journal;
+    }
+
+    private JsonAdaptedJournalRecord(Operation operation, String key, JsonAdaptedPerson person,
+            JsonAdaptedTeam team) {
+        this(operation, key, person, team, null);
+    }
+
+    /**
+     * Returns a record of {@code added} being appended to the person list.
+     */
+    public static JsonAdaptedJournalRecord ofAddedPerson(Person added) {
+        return new JsonAdaptedJournalRecord(Operation.ADD_PERSON, added.getEmail().value,
+                new JsonAdaptedPerson(added), null);
+    }
+
+    /**
+     * Returns a record of {@code removed} being removed from the person list.
+     */
+    public static JsonAdaptedJournalRecord ofRemovedPerson(Person removed) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_PERSON, removed.getEmail().value, null, null);
+    }
+
+    /**
+     * Returns a record of {@code target} being replaced in place by {@code editedPerson}.
+     */
+    public static JsonAdaptedJournalRecord ofReplacedPerson(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalRecord(Operation.REPLACE_PERSON, target.getEmail().value,
+                new JsonAdaptedPerson(editedPerson), null);
+    }
+
+    /**
+     * Returns a record of {@code team} being added, or of its members having changed.
+     */
+    public static JsonAdaptedJournalRecord ofPutTeam(Team team) {
+        return new JsonAdaptedJournalRecord(Operation.PUT_TEAM, team.getName(), null, new JsonAdaptedTeam(team));
+    }
+
+    /**
+     * Returns a record of {@code team} being removed.
+     */
+    public static JsonAdaptedJournalRecord ofRemovedTeam(Team team) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_TEAM, team.getName(), null, null);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    public JsonAdaptedTeam getTeam() {
+        return team;
+    }
+
+    public String getJournal() {
+        return journal;
+    }
+
+    /**
+     * Returns a copy of this record as written to the journal with id {@code journal}.
+     */
+    public JsonAdaptedJournalRecord inJournal(String journal) {
+        return new JsonAdaptedJournalRecord(operation, key, person, team, journal);
+    }
+
+    /**
+     * Checks that the fields required by this record's operation are present.
+     *
+     * @throws IllegalValueException if a required field is missing.
+     */
+    public void validate() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        if (key == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "key"));
+        }
+        boolean needsPerson = operation == Operation.ADD_PERSON || operation == Operation.REPLACE_PERSON;
+        if (needsPerson && (person == null || person.getEmail() == null)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        if (operation == Operation.PUT_TEAM && team == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "team"));
+        }
+    }
+}
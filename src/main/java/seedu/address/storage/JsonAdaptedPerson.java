@@ -53,6 +53,20 @@ class JsonAdaptedPerson {
         teamName = source.getTeamName();
     }
 
+    /**
+     * Returns the email as stored, which may be null or invalid if it has not been validated yet.
+     */
+    String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the team name as stored, which may be null or invalid if it has not been validated yet.
+     */
+    String getTeamName() {
+        return teamName;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -70,7 +84,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (phone == null) {
             throw new IllegalValueException(
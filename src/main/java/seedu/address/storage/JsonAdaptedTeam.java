@@ -62,6 +62,10 @@ class JsonAdaptedTeam {
         return new Team(name);
     }
 
+    String getName() {
+        return name;
+    }
+
     public List<Email> getMemberEmail() {
         assert !members.contains(null) : MISSING_EMAIL_MESSAGE_FORMAT;
         return members;
@@ -2,27 +2,57 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_NOT_AN_OBJECT = "Data file does not contain a JSON object.";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TEAMS_FIELD = "teams";
+    private static final String JOURNAL_FIELD = "journal";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
 
+    /**
+     * Receives the contents of a data file while it is being read.
+     */
+    interface ContentHandler {
+        void addPerson(JsonAdaptedPerson person) throws IllegalValueException;
+
+        void addTeam(JsonAdaptedTeam team) throws IllegalValueException;
+
+        /**
+         * Receives the id of the journal that records the changes made after the file was written.
+         */
+        default void setJournal(String journal) {}
+    }
+
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -38,6 +68,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is parsed one token at a time, converting each person and team as soon as it has been read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +76,70 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        AddressBookAssembler assembler = new AddressBookAssembler();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            readContents(filePath, assembler);
+            return Optional.of(assembler.build());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Parses the data file at {@code filePath} one token at a time, giving each person and team to {@code handler}
+     * as soon as it has been read.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if the file does not contain a JSON object, or {@code handler} rejects a value.
+     */
+    static void readContents(Path filePath, ContentHandler handler) throws IOException, IllegalValueException {
+        requireNonNull(handler);
+        try (JsonParser parser = JsonUtil.createParser(
+                new BufferedInputStream(Channels.newInputStream(FileChannel.open(filePath))))) {
+            readContents(parser, handler);
+        }
+    }
+
+    private static void readContents(JsonParser parser, ContentHandler handler)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            boolean isArray = valueToken == JsonToken.START_ARRAY;
+            if (isArray && fieldName.equals(PERSONS_FIELD)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPerson person = JsonUtil.readValue(parser, JsonAdaptedPerson.class);
+                    if (person != null) {
+                        handler.addPerson(person);
+                    }
+                }
+            } else if (isArray && fieldName.equals(TEAMS_FIELD)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedTeam team = JsonUtil.readValue(parser, JsonAdaptedTeam.class);
+                    if (team != null) {
+                        handler.addTeam(team);
+                    }
+                }
+            } else if (valueToken == JsonToken.VALUE_STRING && fieldName.equals(JOURNAL_FIELD)) {
+                handler.setJournal(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,15 +147,48 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each person and team is converted and written in turn, without building the whole file in memory first.
+     * The data file is replaced atomically, so it is never left partially written.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, null);
+    }
+
+    /**
+     * Captures a copy of {@code addressBook} to be saved, together with the id of the journal that records the
+     * changes made after it.
+     */
+    SaveTask prepareSave(ReadOnlyAddressBook addressBook, String journal) {
+        requireNonNull(journal);
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        return () -> saveAddressBook(snapshot, filePath, journal);
+    }
+
+    private void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, String journal) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (Person person : addressBook.getPersonList()) {
+                    JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart(TEAMS_FIELD);
+                for (Team team : addressBook.getTeamList()) {
+                    JsonUtil.writeValue(generator, new JsonAdaptedTeam(team));
+                }
+                generator.writeEndArray();
+                if (journal != null) {
+                    generator.writeStringField(JOURNAL_FIELD, journal);
+                }
+                generator.writeEndObject();
+            }
+        });
     }
 
 }
@@ -1,23 +1,17 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Person;
-import seedu.address.model.team.Team;
-import seedu.address.model.team.exceptions.TeamMaxCapacityException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -28,11 +22,13 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_TEAM = "Teams list contains duplicate team(s).";
     public static final String MISSING_PERSON_MESSAGE_FORMAT = "Member %s not found in address book!";
+    public static final String MISSING_TEAM_MESSAGE_FORMAT = "Team %s not found in address book!";
     public static final String EXCEED_TEAM_CAPACITY_MESSAGE_FORMAT = "There are more than 5 members in team %s";
-    private static final String NO_TEAM_KEY = ""; // Key used to represent no team (Team.NONE)
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTeam> teams = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String journal;
 
     /**
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
@@ -47,142 +43,61 @@ class JsonSerializableAddressBook {
         teams.addAll(source.getTeamList().stream()
                 .map(JsonAdaptedTeam::new)
                 .collect(Collectors.toList()));
+        journal = null;
     }
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, List<JsonAdaptedTeam> teams) {
+        this(persons, teams, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, teams and journal.
+     *
+     * @param journal the id of the journal that records the changes made after this address book was written,
+     *     or null if there is none.
+     */
     @JsonCreator
     public JsonSerializableAddressBook(
             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
-            @JsonProperty("teams") List<JsonAdaptedTeam> teams) {
+            @JsonProperty("teams") List<JsonAdaptedTeam> teams,
+            @JsonProperty("journal") String journal) {
         if (persons != null) {
             this.persons.addAll(persons);
         }
         if (teams != null) {
             this.teams.addAll(teams);
         }
+        this.journal = journal;
     }
 
-    /**
-     * Converts this address book into the model's {@code AddressBook} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
-     */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        TeamParsing teamParsing = parseTeams(addressBook);
-        addPersons(addressBook, teamParsing.teamMap);
-        populateTeamsFromMembers(addressBook, teamParsing.teamMap, teamParsing.teamMemberMap);
-
-        return addressBook;
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
     }
 
-    private List<Person> getPersonList(List<Email> emailList, ObservableList<Person> allPersons)
-            throws IllegalValueException {
-        List<Person> memberList = new ArrayList<>();
-        for (Email email : emailList) {
-            Person found = allPersons.stream()
-                    .filter(person -> person.getEmail().equals(email))
-                    .findFirst()
-                    .orElse(null);
-            if (found == null) {
-                throw new IllegalValueException(String.format(MISSING_PERSON_MESSAGE_FORMAT, email));
-            }
-            memberList.add(found);
-        }
+    List<JsonAdaptedTeam> getTeams() {
+        return teams;
+    }
 
-        return memberList;
+    String getJournal() {
+        return journal;
     }
 
     /**
-     * Parses teams from JSON into the address book, returning maps used for wiring memberships later.
+     * Converts this address book into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
      */
-    private TeamParsing parseTeams(AddressBook addressBook) throws IllegalValueException {
-        Map<String, Team> teamMap = new HashMap<>();
-        Map<String, List<Email>> teamMemberMap = new HashMap<>();
-
+    public AddressBook toModelType() throws IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
         for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
-            Team team = jsonAdaptedTeam.toModelType();
-            throwIfDuplicateTeam(addressBook, team);
-            addressBook.addTeam(team);
-
-            teamMemberMap.put(team.getName(), jsonAdaptedTeam.getMemberEmail());
-            teamMap.put(team.getName(), team);
+            assembler.addTeam(jsonAdaptedTeam);
         }
-        teamMap.put(NO_TEAM_KEY, Team.NONE);
-
-        return new TeamParsing(teamMap, teamMemberMap);
-    }
-
-
-    /**
-     * Adds persons to the address book after converting them from their JSON form.
-     */
-    private void addPersons(AddressBook addressBook, Map<String, Team> teamMap) throws IllegalValueException {
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType(teamMap);
-            throwIfDuplicatePerson(addressBook, person);
-            addressBook.addPerson(person);
-        }
-    }
-    /**
-     * Wires team memberships using the previously captured email lists per team.
-     */
-    private void populateTeamsFromMembers(AddressBook addressBook, Map<String, Team> teamMap,
-            Map<String, List<Email>> teamMemberMap) throws IllegalValueException {
-        for (Map.Entry<String, List<Email>> entry : teamMemberMap.entrySet()) {
-            Team team = teamMap.get(entry.getKey());
-            List<Email> emailList = entry.getValue();
-            List<Person> teamPersonList = resolvePersonsByEmail(emailList, addressBook.getPersonList());
-            try {
-                team.setPersons(teamPersonList);
-            } catch (TeamMaxCapacityException e) {
-                throw new IllegalValueException(String.format(EXCEED_TEAM_CAPACITY_MESSAGE_FORMAT, team.getName()));
-            }
-        }
-    }
-
-    /** Resolves a list of persons by their emails; fails if any email is missing. */
-    private static List<Person> resolvePersonsByEmail(List<Email> emailList, ObservableList<Person> allPersons)
-            throws IllegalValueException {
-        List<Person> memberList = new ArrayList<>();
-        for (Email email : emailList) {
-            Person found = allPersons.stream()
-                    .filter(person -> person.getEmail().equals(email))
-                    .findFirst()
-                    .orElse(null);
-            if (found == null) {
-                throw new IllegalValueException(String.format(MISSING_PERSON_MESSAGE_FORMAT, email));
-            }
-            memberList.add(found);
-        }
-        return memberList;
-    }
-
-    /** Throws if the given team already exists in the address book. */
-    private static void throwIfDuplicateTeam(AddressBook addressBook, Team team) throws IllegalValueException {
-        if (addressBook.hasTeam(team)) {
-            throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
-        }
-    }
-
-    /** Throws if the given person already exists in the address book (identity-based). */
-    private static void throwIfDuplicatePerson(AddressBook addressBook, Person person) throws IllegalValueException {
-        if (addressBook.hasPerson(person)) {
-            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-        }
-    }
-
-    /** Simple container for team parsing artifacts. */
-    private static class TeamParsing {
-        private final Map<String, Team> teamMap;
-        private final Map<String, List<Email>> teamMemberMap;
-
-        private TeamParsing(Map<String, Team> teamMap, Map<String, List<Email>> teamMemberMap) {
-            this.teamMap = teamMap;
-            this.teamMemberMap = teamMemberMap;
+            assembler.addPerson(jsonAdaptedPerson);
         }
+        return assembler.build();
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -31,4 +32,28 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook} as a JSON file at {@code filePath}, whatever the format of the data file.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Saves {@code addressBook} on a background thread.
+     * The state of {@code addressBook} is captured before this method returns, and saves that have not started yet
+     * are merged into a single write of the latest state.
+     *
+     * @return a future that completes once the latest state has been written, or completes exceptionally with the
+     *     {@code IOException} that prevented it.
+     */
+    CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Blocks until all address book saves requested so far have been written.
+     *
+     * @throws IOException if the last of them failed.
+     */
+    void flush() throws IOException;
+
 }
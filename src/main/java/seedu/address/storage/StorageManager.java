@@ -1,9 +1,15 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -21,6 +27,16 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object saveLock = new Object();
+    private SaveTask queuedSave; // guarded by saveLock
+    private CompletableFuture<Void> queuedSaveResult; // guarded by saveLock
+    private CompletableFuture<Void> lastSaveResult = CompletableFuture.completedFuture(null); // guarded by saveLock
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -33,12 +49,15 @@ public class StorageManager implements Storage {
     /**
      * Creates a timestamped backup of the current address book file to prevent data loss
      * in case the file is corrupted.
+     * Saves replace the data file atomically, so this is only needed for files damaged outside the app,
+     * e.g. by editing them by hand.
      * <p>
      * The backup file is created in the same directory as the original address book,
      * with a filename format of:
      * <pre>
      * originalFileName_corrupted_yyyy-MM-ddTHH-mm-ss.json
      * </pre>
+     * The extension of the original file, such as {@code .bin} for binary data files, is kept.
      * Colons in the timestamp are replaced with hyphens to ensure the filename is valid.
      * <p>
      * If an I/O error occurs during the backup process, a severe log message is recorded,
@@ -52,9 +71,10 @@ public class StorageManager implements Storage {
             String timestamp = java.time.LocalDateTime.now()
                                 .toString()
                                 .replace(":", "-"); // avoid invalid filename chars
-            String backupFilename = corruptedFile.getFileName().toString().replace(".json", "");
-            Path backupFile = corruptedFile.resolveSibling(
-                        backupFilename + "_corrupted_" + timestamp + ".json");
+            String fileName = corruptedFile.getFileName().toString();
+            int extensionIndex = fileName.lastIndexOf('.') > 0 ? fileName.lastIndexOf('.') : fileName.length();
+            Path backupFile = corruptedFile.resolveSibling(fileName.substring(0, extensionIndex)
+                        + "_corrupted_" + timestamp + fileName.substring(extensionIndex));
             Files.copy(corruptedFile, backupFile);
         } catch (IOException ioEx) {
             logger.severe("Failed to back up corrupted data file: " + ioEx.getMessage());
@@ -104,9 +124,13 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves {@code addressBook} and waits for the write to complete.
+     * The write is ordered after any saves requested earlier through {@link #saveAddressBookAsync}.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        awaitSave(saveAddressBookAsync(addressBook));
     }
 
     @Override
@@ -115,4 +139,84 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Attempting to export data to file: " + filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+
+    @Override
+    public SaveTask prepareSave(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.prepareSave(addressBook);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (saveLock) {
+            // Prepared under the lock so that saves are queued in the order their states were captured.
+            SaveTask save = addressBookStorage.prepareSave(addressBook);
+            if (queuedSave != null) {
+                // The queued save has not started yet, so it is replaced by this newer one.
+                queuedSave = save;
+                return queuedSaveResult;
+            }
+            queuedSave = save;
+            queuedSaveResult = new CompletableFuture<>();
+            lastSaveResult = queuedSaveResult;
+            saveExecutor.execute(this::runQueuedSave);
+            return queuedSaveResult;
+        }
+    }
+
+    private void runQueuedSave() {
+        SaveTask save;
+        CompletableFuture<Void> result;
+        synchronized (saveLock) {
+            save = queuedSave;
+            result = queuedSaveResult;
+            queuedSave = null;
+            queuedSaveResult = null;
+        }
+
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        try {
+            save.run();
+            result.complete(null);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save data file " + addressBookStorage.getAddressBookFilePath() + ": " + e);
+            result.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        CompletableFuture<Void> result;
+        synchronized (saveLock) {
+            result = lastSaveResult;
+        }
+        awaitSave(result);
+    }
+
+    /**
+     * Waits for {@code result} and rethrows the exception it failed with, if any.
+     */
+    private static void awaitSave(CompletableFuture<Void> result) throws IOException {
+        try {
+            result.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data file to be saved", ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
 }
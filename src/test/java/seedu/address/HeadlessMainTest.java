@@ -0,0 +1,76 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(new ModelManager(), new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_validCommands_feedbackWritten() throws Exception {
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run("list\n\n   \nlist\n"));
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS, ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_errorWrittenAndLaterCommandsExecuted() throws Exception {
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, run("unknowncommand\nlist"));
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals(lines(MESSAGE_UNKNOWN_COMMAND), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsSkipped() throws Exception {
+        assertEquals(HeadlessMain.EXIT_SUCCESS, run("exit\nunknowncommand\n"));
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    private int run(String input) throws IOException {
+        return HeadlessMain.run(logic, new BufferedReader(new StringReader(input)),
+                new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstInstanceReturned() {
+        String first = new String("Alex Yeoh");
+        String second = new String("Alex Yeoh");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_bothKept() {
+        String alex = new String("Alex Yeoh");
+        String bernice = new String("Bernice Yu");
+        assertSame(alex, interner.intern(alex));
+        assertSame(bernice, interner.intern(bernice));
+        assertEquals(2, interner.size());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(null));
+    }
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list);
+        assertEquals(elements, new ArrayList<>(list));
+        assertTrue(PersistentList.of(List.of()).isEmpty());
+        assertSame(list, PersistentList.of(list));
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+    }
+
+    @Test
+    public void modifiers_outOfBounds_throwIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(1));
+    }
+
+    @Test
+    public void add_unsupported_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.<String>empty().add("a"));
+    }
+
+    @Test
+    public void modifiers_earlierVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> replaced = original.with(1, "x");
+        PersistentList<String> inserted = original.plus(0, "x");
+        PersistentList<String> appended = original.plus("x");
+        PersistentList<String> removed = original.minus(2);
+
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("a", "x", "c"), replaced);
+        assertEquals(List.of("x", "a", "b", "c"), inserted);
+        assertEquals(List.of("a", "b", "c", "x"), appended);
+        assertEquals(List.of("a", "b"), removed);
+        assertTrue(original.minus(0).minus(0).minus(0).isEmpty());
+    }
+
+    @Test
+    public void modifiers_randomOperations_sameAsArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            }
+        }
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final List<String> list = new ArrayList<>();
+    private final PositionIndex<String> index = new PositionIndex<>(list);
+
+    @Test
+    public void indexOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.indexOf(null));
+    }
+
+    @Test
+    public void indexOf_elementsAdded_foundAtTheirPositions() {
+        String first = new String("Alex");
+        String second = new String("Bernice");
+        add(first);
+        add(second);
+
+        assertEquals(0, index.indexOf(first));
+        assertEquals(1, index.indexOf(second));
+    }
+
+    @Test
+    public void indexOf_equalButNotSameElement_notFound() {
+        add(new String("Alex"));
+        assertEquals(-1, index.indexOf(new String("Alex")));
+    }
+
+    @Test
+    public void indexOf_keyedIndex_elementWithSameKeyFound() {
+        PositionIndex<String> keyedIndex = new PositionIndex<>(list, element -> element.charAt(0));
+        list.add("Alex");
+        list.add("Bernice");
+        keyedIndex.replaced(0, List.of(), list);
+
+        assertEquals(1, keyedIndex.indexOf("Benson"));
+        assertEquals(-1, keyedIndex.indexOf("Charlotte"));
+    }
+
+    @Test
+    public void indexOf_elementsRemoved_laterElementsRenumbered() {
+        List<String> elements = List.of(new String("Alex"), new String("Bernice"), new String("Charlotte"),
+                new String("David"));
+        elements.forEach(this::add);
+
+        remove(1);
+        remove(0);
+
+        assertEquals(-1, index.indexOf(elements.get(0)));
+        assertEquals(-1, index.indexOf(elements.get(1)));
+        assertEquals(0, index.indexOf(elements.get(2)));
+        assertEquals(1, index.indexOf(elements.get(3)));
+    }
+
+    @Test
+    public void indexOf_elementReplaced_replacementAtSamePosition() {
+        String first = new String("Alex");
+        String second = new String("Bernice");
+        String replacement = new String("Irfan");
+        add(first);
+        add(second);
+
+        index.replaced(0, List.of(first), List.of(replacement));
+        list.set(0, replacement);
+
+        assertEquals(-1, index.indexOf(first));
+        assertEquals(0, index.indexOf(replacement));
+        assertEquals(1, index.indexOf(second));
+    }
+
+    @Test
+    public void indexOf_afterReset_foundAtNewPositions() {
+        String first = new String("Alex");
+        String second = new String("Bernice");
+        add(first);
+        add(second);
+
+        index.reset();
+        list.clear();
+        list.add(second);
+
+        assertEquals(-1, index.indexOf(first));
+        assertEquals(0, index.indexOf(second));
+    }
+
+    private void add(String element) {
+        index.replaced(list.size(), List.of(), List.of(element));
+        list.add(element);
+    }
+
+    private void remove(int position) {
+        index.replaced(position, List.of(list.get(position)), List.of());
+        list.remove(position);
+    }
+}
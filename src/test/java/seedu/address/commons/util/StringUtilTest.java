@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -129,6 +130,51 @@ public class StringUtilTest {
      * Equivalence Partitions: null, valid throwable object
      */
 
+    //---------------- Tests for getCollationKey --------------------------------------
+
+    @Test
+    public void getCollationKey_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getCollationKey(null));
+    }
+
+    @Test
+    public void getCollationKey_validStrings_sortAlphabeticallyIgnoringCase() {
+        assertEquals(0, StringUtil.getCollationKey("ALICE").compareTo(StringUtil.getCollationKey("alice")));
+        assertTrue(StringUtil.getCollationKey("alice").compareTo(StringUtil.getCollationKey("Bob")) < 0);
+        assertTrue(StringUtil.getCollationKey("Zoe").compareTo(StringUtil.getCollationKey("bob")) > 0);
+        assertTrue(StringUtil.getCollationKey("Al").compareTo(StringUtil.getCollationKey("alice")) < 0);
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null, 1));
+    }
+
+    @Test
+    public void editDistance_negativeMaximum_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Maximum distance cannot be negative", ()
+            -> StringUtil.editDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", "", 0));
+        assertEquals(0, StringUtil.editDistance("alice", "alice", 2));
+        assertEquals(3, StringUtil.editDistance("", "abc", 3));
+        assertEquals(1, StringUtil.editDistance("alice", "alise", 2)); // substitution
+        assertEquals(1, StringUtil.editDistance("alice", "alce", 2)); // deletion
+        assertEquals(1, StringUtil.editDistance("alice", "allice", 2)); // insertion
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 5));
+
+        // distance exceeds the maximum
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 2));
+        assertEquals(2, StringUtil.editDistance("alice", "bob", 1));
+        assertEquals(1, StringUtil.editDistance("a", "abc", 0));
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
@@ -1,26 +1,45 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.GITHUB_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
+import seedu.address.logic.commands.CreateTeamCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -41,6 +60,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -48,7 +68,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("sweatless_storage.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -71,17 +91,157 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_failureReported() throws Exception {
+        assertFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_failureReported() throws Exception {
+        assertFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_failedSavesMerged_failureReportedOnce() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        firstSaveStarted.countDown();
+                        try {
+                            firstSaveReleased.await();
+                        } catch (InterruptedException ie) {
+                            throw new IOException(ie);
+                        }
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        BlockingQueue<String> reportedMessages = new LinkedBlockingQueue<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
+
+        logic.execute(CreateTeamCommand.COMMAND_WORD + " " + PREFIX_TEAM + "F12-3");
+        assertTrue(firstSaveStarted.await(10, TimeUnit.SECONDS));
+        // Queued while the first save is running, and merged into a single save
+        logic.execute(CreateTeamCommand.COMMAND_WORD + " " + PREFIX_TEAM + "F12-4");
+        logic.execute(CreateTeamCommand.COMMAND_WORD + " " + PREFIX_TEAM + "W08-1");
+        firstSaveReleased.countDown();
+
+        String expectedMessage = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+        assertEquals(expectedMessage, reportedMessages.poll(10, TimeUnit.SECONDS));
+        assertEquals(expectedMessage, reportedMessages.poll(10, TimeUnit.SECONDS));
+        assertNull(reportedMessages.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void execute_publishingEnabled_publishedAddressBookSaved() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookPublishingEnabled(true);
+        model = new ModelManager(model.getAddressBook(), userPrefs);
+        BlockingQueue<ReadOnlyAddressBook> savedAddressBooks = new LinkedBlockingQueue<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        savedAddressBooks.add(addressBook);
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GITHUB_DESC_AMY);
+        ReadOnlyAddressBook published = model.getPublishedAddressBook().get();
+        assertEquals(model.getAddressBook().getPersonList(), published.getPersonList());
+        assertSame(published, savedAddressBooks.poll(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void execute_exitAfterFailedSave_exitRefusedOnce() throws Exception {
+        logic = new LogicManager(model, getFailingStorage(DUMMY_IO_EXCEPTION));
+        logic.setSaveFailureHandler(message -> {});
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GITHUB_DESC_AMY);
+
+        String expectedMessage = String.format(LogicManager.MESSAGE_EXIT_WITH_UNSAVED_CHANGES,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ExitCommand.COMMAND_WORD));
+
+        // The user has been told that the changes are not saved
+        assertTrue(logic.execute(ExitCommand.COMMAND_WORD).isExit());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_saveSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSkippedSaveCount());
+        assertFalse(Files.exists(temporaryFolder.resolve("sweatless_storage.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_saved() throws Exception {
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + GITHUB_DESC_AMY;
+        logic.execute(addCommand);
+        storage.flush();
+        assertEquals(0, logic.getSkippedSaveCount());
+        assertTrue(Files.exists(temporaryFolder.resolve("sweatless_storage.json")));
+
+        // unchanged since the last save
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_exportCommand_addressBookExportedByStorage() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GITHUB_DESC_AMY);
+        String exportFileName = "logicManagerTestExport.json";
+        Path exportFile = Paths.get("data").resolve(exportFileName).toAbsolutePath();
+        try {
+            CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + PREFIX_FILE + exportFileName);
+
+            assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, exportFile), result.getFeedbackToUser());
+            assertEquals(model.getAddressBook(), new JsonAddressBookStorage(exportFile).readAddressBook().get());
+        } finally {
+            Files.deleteIfExists(exportFile);
+        }
+    }
+
+    @Test
+    public void execute_transaction_savedOnlyWhenCommitted() throws Exception {
+        Path dataFile = temporaryFolder.resolve("sweatless_storage.json");
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GITHUB_DESC_AMY);
+        logic.execute(CreateTeamCommand.COMMAND_WORD + " " + PREFIX_TEAM + "F12-3");
+        storage.flush();
+        assertFalse(Files.exists(dataFile));
+
+        logic.execute(CommitCommand.COMMAND_WORD);
+        storage.flush();
+        assertTrue(Files.exists(dataFile));
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_transactionRolledBack_changesDiscarded() throws Exception {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + GITHUB_DESC_AMY);
+        assertCommandException(UndoCommand.COMMAND_WORD,
+                String.format(Messages.MESSAGE_NOT_IN_TRANSACTION, UndoCommand.COMMAND_WORD));
+        assertCommandException(ExitCommand.COMMAND_WORD,
+                String.format(Messages.MESSAGE_NOT_IN_TRANSACTION, ExitCommand.COMMAND_WORD));
+
+        assertCommandSuccess(RollbackCommand.COMMAND_WORD, RollbackCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -144,12 +304,34 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported to the save failure handler
+     */
+    private void assertFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
+        BlockingQueue<String> reportedMessages = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, getFailingStorage(e));
+        logic.setSaveFailureHandler(reportedMessages::add);
+
+        // Triggers a background save by executing an add command, whose failure is reported once the save fails
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + GITHUB_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(expectedMessage, reportedMessages.poll(10, TimeUnit.SECONDS));
+
+        // The next command does not fail, and the failed save is retried
+        Person expectedPerson = new PersonBuilder(AMY).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(expectedMessage, reportedMessages.poll(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Returns a {@code StorageManager} whose address book storage throws {@code e} when saving.
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private StorageManager getFailingStorage(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -160,17 +342,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + GITHUB_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        expectedModel.deletePerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
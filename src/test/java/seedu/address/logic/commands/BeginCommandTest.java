@@ -0,0 +1,27 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class BeginCommandTest {
+
+    @Test
+    public void execute_noTransaction_transactionStarted() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new BeginCommand(), model, BeginCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertTrue(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_inTransaction_failure() {
+        Model model = new ModelManager();
+        model.beginTransaction();
+        assertCommandFailure(new BeginCommand(), model, BeginCommand.MESSAGE_ALREADY_STARTED);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class CommitCommandTest {
+
+    @Test
+    public void execute_noTransaction_failure() {
+        assertCommandFailure(new CommitCommand(), new ModelManager(), CommitCommand.MESSAGE_NO_TRANSACTION);
+    }
+
+    @Test
+    public void execute_inTransaction_changesKeptAndUndoneTogether() {
+        Model model = new ModelManager();
+        model.beginTransaction();
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.addPerson(BOB);
+        model.commitAddressBook();
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        assertCommandSuccess(new CommitCommand(), model, CommitCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.isInTransaction());
+
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+}
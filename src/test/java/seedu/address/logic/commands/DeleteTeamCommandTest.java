@@ -48,6 +48,25 @@ public class DeleteTeamCommandTest {
         assertTrue(updated.getTeam().equals(Team.NONE));
     }
 
+    @Test
+    public void execute_membersHiddenByFilter_teamClearedAndFilterKept() throws CommandException {
+        Team team = new Team("F12-3");
+        model.addTeam(team);
+        Person shown = new PersonBuilder().withName("Alice Tan").withTeam(team).build();
+        Person hidden = new PersonBuilder().withName("Bob Lee").withPhone("91234567").withEmail("bob@example.com")
+                .withGithub("boblee").withTeam(team).build();
+        model.addPerson(shown);
+        model.addPerson(hidden);
+        model.updateFilteredPersonList(person -> person.getName().fullName.startsWith("Alice"));
+
+        new DeleteTeamCommand("F12-3").execute(model);
+
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals("Alice Tan", model.getFilteredPersonList().get(0).getName().fullName);
+        assertTrue(model.getAddressBook().getPersonList().stream()
+                .allMatch(person -> person.getTeam().equals(Team.NONE)));
+    }
+
     @Test
     public void execute_teamNotFound_throwsCommandException() throws Exception {
         DeleteTeamCommand command = new DeleteTeamCommand("NonExistent");
@@ -1,13 +1,14 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,12 +49,12 @@ class ExportCommandTest {
         // The command will append the default file name internally
         Path expectedFile = exportDir.resolve(ExportCommand.DEFAULT_FILE);
 
-        // Check that the file exists
-        assertTrue(Files.exists(expectedFile));
+        // The file is written by the storage component, not by the command itself
+        assertFalse(Files.exists(expectedFile));
 
         // Compare feedback to user with the actual file path returned by the command
-        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, expectedFile.toString()),
-                result.getFeedbackToUser());
+        assertEquals(new CommandResult(String.format(ExportCommand.MESSAGE_SUCCESS, expectedFile.toString()),
+                false, false, expectedFile), result);
     }
 
     @Test
@@ -65,7 +66,7 @@ class ExportCommandTest {
         CommandResult result = command.execute(model);
 
         Path expectedFile = exportDir.resolve(ExportCommand.DEFAULT_FILE);
-        assertTrue(Files.exists(expectedFile));
+        assertEquals(Optional.of(expectedFile), result.getExportPath());
         //assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, expectedFile), result.getFeedbackToUser());
     }
 
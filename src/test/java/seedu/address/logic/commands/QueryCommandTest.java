@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.Query;
+import seedu.address.model.person.query.QueryField;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand} and {@code ExplainCommand}.
+ */
+public class QueryCommandTest {
+    private static final Query TEAM_F12_3_NOT_CARL = new AndQuery(List.of(new FieldQuery(QueryField.TEAM, "F12-3"),
+            new NotQuery(new FieldQuery(QueryField.NAME, "Carl"))));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand queryCommand = new QueryCommand(TEAM_F12_3_NOT_CARL);
+
+        // same values -> returns true
+        assertTrue(queryCommand.equals(new QueryCommand(TEAM_F12_3_NOT_CARL)));
+
+        // different types -> returns false
+        assertFalse(queryCommand.equals(new ExplainCommand(TEAM_F12_3_NOT_CARL)));
+
+        // different query -> returns false
+        assertFalse(queryCommand.equals(new QueryCommand(new FieldQuery(QueryField.TEAM, "F12-3"))));
+    }
+
+    @Test
+    public void execute_query_matchingPersonsListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(TEAM_F12_3_NOT_CARL);
+        assertCommandSuccess(new QueryCommand(TEAM_F12_3_NOT_CARL), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_listUnchanged() {
+        String expectedMessage = String.format(ExplainCommand.MESSAGE_SUCCESS, String.join("\n",
+                TEAM_F12_3_NOT_CARL.explain(model.getPersonSearchIndex())));
+        assertCommandSuccess(new ExplainCommand(TEAM_F12_3_NOT_CARL), model, expectedMessage, expectedModel);
+        assertTrue(expectedMessage.contains("team:F12-3 via team name index"));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        Model model = new ModelManager();
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_redoesOneCommitAtATime() {
+        Model model = new ModelManager();
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.addPerson(BOB);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.undoAddressBook();
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.addPerson(BOB);
+        model.commitAddressBook();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesAfterUndo_failure() {
+        Model model = new ModelManager();
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.addPerson(BOB);
+        model.commitAddressBook();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
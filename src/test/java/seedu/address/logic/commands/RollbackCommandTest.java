@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RollbackCommandTest {
+
+    @Test
+    public void execute_noTransaction_failure() {
+        assertCommandFailure(new RollbackCommand(), new ModelManager(), RollbackCommand.MESSAGE_NO_TRANSACTION);
+    }
+
+    @Test
+    public void execute_inTransaction_onlyChangesInTransactionReverted() {
+        Model model = new ModelManager();
+        model.addPerson(AMY);
+        model.commitAddressBook();
+        model.beginTransaction();
+        model.deletePerson(AMY);
+        model.commitAddressBook();
+        model.addPerson(BOB);
+        model.commitAddressBook();
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        assertCommandSuccess(new RollbackCommand(), model, RollbackCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.isInTransaction());
+        assertFalse(model.canRedoAddressBook());
+
+        // The change made before the transaction can still be undone
+        assertTrue(model.canUndoAddressBook());
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private static final String CREATE_JO = "create-s n/Jo Ho p/91234567 e/jo@example.com g/joho";
+    private static final String CREATE_KIM = "create-s n/Kim Lee p/92345678 e/kim@example.com g/kimlee";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Model model = new ModelManager();
+        Path script = writeScript("# Semester setup", CREATE_JO, "", "create-t t/F12-3", "  " + CREATE_KIM,
+                "team-add 2 t/F12-3");
+
+        CommandResult result = new RunCommand(script.toString()).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 4 commands from " + script));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, model.getAddressBook().getTeamList().get(0).getPersonList().size());
+    }
+
+    @Test
+    public void execute_failingCommand_changesRolledBack() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+        Path script = writeScript(CREATE_JO, "delete-s 1", "delete-s 99", CREATE_KIM);
+
+        String error = String.format(RunCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_EXECUTION_FAILURE, error), () ->
+                new RunCommand(script.toString()).execute(model));
+
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_invalidLines_nothingRun() throws Exception {
+        Model model = new ModelManager();
+        Path script = writeScript(CREATE_JO, "bogus", "undo", "run f/other.txt");
+
+        String errors = String.join("\n",
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND),
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 3,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, UndoCommand.COMMAND_WORD)),
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 4,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD)));
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_PARSE_FAILURE, errors), () ->
+                new RunCommand(script.toString()).execute(model));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missing = temporaryFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, missing), () ->
+                new RunCommand(missing.toString()).execute(new ModelManager()));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand("setup.txt");
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand("setup.txt")));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand("other.txt")));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, String.join("\n", lines).getBytes());
+        return script;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Field;
+import seedu.address.model.person.PersonSortOrder.Key;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private static final PersonSortOrder BY_NAME_DESCENDING = new PersonSortOrder(List.of(new Key(Field.NAME, true)));
+    private static final PersonSortOrder BY_TEAM_THEN_NAME = new PersonSortOrder(
+            List.of(new Key(Field.TEAM, false), new Key(Field.NAME, false)));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SortCommand sortCommand = new SortCommand(BY_NAME_DESCENDING);
+
+        // same values -> returns true
+        assertTrue(sortCommand.equals(new SortCommand(BY_NAME_DESCENDING)));
+
+        // same object -> returns true
+        assertTrue(sortCommand.equals(sortCommand));
+
+        // null -> returns false
+        assertFalse(sortCommand.equals(null));
+
+        // different sort order -> returns false
+        assertFalse(sortCommand.equals(new SortCommand(BY_TEAM_THEN_NAME)));
+    }
+
+    @Test
+    public void execute_multipleKeys_personsSorted() {
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "team, then name");
+        expectedModel.sortFilteredPersonList(BY_TEAM_THEN_NAME);
+        assertCommandSuccess(new SortCommand(BY_TEAM_THEN_NAME), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON, CARL, GEORGE, DANIEL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_added_originalOrderRestored() {
+        model.sortFilteredPersonList(BY_NAME_DESCENDING);
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "order added");
+        assertCommandSuccess(new SortCommand(PersonSortOrder.ADDED), model, expectedMessage, expectedModel);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenFilterAndEdit_orderKept() throws Exception {
+        new SortCommand(BY_NAME_DESCENDING).execute(model);
+
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier"), List.of()));
+        assertEquals(List.of(DANIEL, BENSON), model.getFilteredPersonList());
+
+        // edited and added persons are moved to their place in the order
+        Person editedBenson = new PersonBuilder(BENSON).withName("Zed Meier").build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson, DANIEL), model.getFilteredPersonList());
+        Person hans = new PersonBuilder().withName("Hans Meier").withEmail("hans@example.com")
+                .withGithub("hansmeier").build();
+        model.addPerson(hans);
+        assertEquals(List.of(editedBenson, hans, GEORGE), model.getFilteredPersonList().subList(0, 3));
+    }
+
+    @Test
+    public void execute_thenIndexCommand_actsOnDisplayedPerson() throws Exception {
+        new SortCommand(BY_NAME_DESCENDING).execute(model);
+        assertEquals(GEORGE, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
+
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+        assertFalse(model.hasPerson(GEORGE));
+        assertEquals(FIONA, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
+    }
+}
@@ -16,17 +16,32 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Field;
+import seedu.address.model.person.PersonSortOrder.Key;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.Query;
+import seedu.address.model.person.query.QueryField;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -48,6 +63,31 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD + " 3") instanceof CommitCommand);
+        assertTrue(parser.parseCommand(RollbackCommand.COMMAND_WORD) instanceof RollbackCommand);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " f/setup.txt");
+        assertEquals(new RunCommand("setup.txt"), command);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -70,6 +110,19 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_query() throws Exception {
+        Query query = new FieldQuery(QueryField.TEAM, "F12-3");
+        assertEquals(new QueryCommand(query), parser.parseCommand(QueryCommand.COMMAND_WORD + " team:F12-3"));
+        assertEquals(new ExplainCommand(query), parser.parseCommand(ExplainCommand.COMMAND_WORD + " team:F12-3"));
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        PersonSortOrder sortOrder = new PersonSortOrder(List.of(new Key(Field.TEAM, false), new Key(Field.NAME, true)));
+        assertEquals(new SortCommand(sortOrder), parser.parseCommand(SortCommand.COMMAND_WORD + " team name:desc"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex.MatchMode;
 import seedu.address.model.team.Team;
 
 public class FindCommandParserTest {
@@ -48,4 +49,49 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " t/F12-3", expectedFindCommand);
     }
 
+    @Test
+    public void parse_matchMode_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Ali"),
+                Arrays.asList("pauline"), Collections.emptyList(), MatchMode.PREFIX));
+        assertParseSuccess(parser, " n/Ali g/pauline m/prefix", expectedFindCommand);
+        assertParseSuccess(parser, " n/Ali g/pauline m/ PREFIX ", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Collections.emptyList(),
+                Arrays.asList("meier"), Collections.emptyList(), MatchMode.WORD));
+        assertParseSuccess(parser, " g/meier", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyMatchMode_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie"),
+                Collections.emptyList(), Collections.emptyList(), MatchMode.FUZZY, 2));
+        assertParseSuccess(parser, " n/Alcie m/fuzzy d/2", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie"),
+                Collections.emptyList(), Collections.emptyList(), MatchMode.FUZZY,
+                NameContainsKeywordsPredicate.LENGTH_BASED_MAX_DISTANCE));
+        assertParseSuccess(parser, " n/Alcie m/fuzzy", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidMaxDistance_throwsParseException() {
+        assertParseFailure(parser, " n/Alcie m/fuzzy d/4", FindCommand.MESSAGE_INVALID_MAX_DISTANCE);
+        assertParseFailure(parser, " n/Alcie m/fuzzy d/-1", FindCommand.MESSAGE_INVALID_MAX_DISTANCE);
+        assertParseFailure(parser, " n/Alcie m/fuzzy d/one", FindCommand.MESSAGE_INVALID_MAX_DISTANCE);
+
+        // not fuzzy
+        assertParseFailure(parser, " n/Alcie d/1", FindCommand.MESSAGE_INVALID_MAX_DISTANCE);
+    }
+
+    @Test
+    public void parse_invalidMatchMode_throwsParseException() {
+        assertParseFailure(parser, " n/Alice m/exact", FindCommand.MESSAGE_INVALID_MATCH_MODE);
+    }
+
+    @Test
+    public void parse_onlyMatchMode_throwsParseException() {
+        assertParseFailure(parser, " m/prefix",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.FieldQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.QueryField;
+
+public class QueryCommandParserTest {
+
+    private static final FieldQuery NAME_ALICE = new FieldQuery(QueryField.NAME, "Alice");
+    private static final FieldQuery TEAM_F12_3 = new FieldQuery(QueryField.TEAM, "F12-3");
+    private static final FieldQuery PHONE_9 = new FieldQuery(QueryField.PHONE, "9");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singleClause_returnsQueryCommand() {
+        assertParseSuccess(parser, " email:alice@example.com",
+                new QueryCommand(new FieldQuery(QueryField.EMAIL, "alice@example.com")));
+        assertParseSuccess(parser, " SLOT:W??-1", new QueryCommand(new FieldQuery(QueryField.SLOT, "W??-1")));
+    }
+
+    @Test
+    public void parse_operators_returnsQueryCommand() {
+        // AND binds tighter than OR
+        assertParseSuccess(parser, " name:Alice OR team:F12-3 AND phone:9", new QueryCommand(
+                new OrQuery(List.of(NAME_ALICE, new AndQuery(List.of(TEAM_F12_3, PHONE_9))))));
+
+        // clauses next to each other must all match
+        assertParseSuccess(parser, " name:Alice and team:F12-3 phone:9",
+                new QueryCommand(new AndQuery(List.of(NAME_ALICE, TEAM_F12_3, PHONE_9))));
+
+        // NOT binds tightest, and parentheses group
+        assertParseSuccess(parser, " NOT (name:Alice OR team:F12-3) phone:9", new QueryCommand(new AndQuery(List.of(
+                new NotQuery(new OrQuery(List.of(NAME_ALICE, TEAM_F12_3))), PHONE_9))));
+        assertParseSuccess(parser, " (name:Alice)", new QueryCommand(NAME_ALICE));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " alice", String.format(QueryCommandParser.MESSAGE_INVALID_CLAUSE, "alice"));
+        assertParseFailure(parser, " name:", String.format(QueryCommandParser.MESSAGE_INVALID_CLAUSE, "name:"));
+        assertParseFailure(parser, " age:20",
+                String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "age", "name, email, domain, phone, github, "
+                        + "team, slot"));
+        assertParseFailure(parser, " name:Alice AND",
+                String.format(QueryCommandParser.MESSAGE_UNEXPECTED_END, "name:Alice AND"));
+        assertParseFailure(parser, " (name:Alice",
+                String.format(QueryCommandParser.MESSAGE_UNEXPECTED_END, "( name:Alice"));
+        assertParseFailure(parser, " name:Alice)", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, ")"));
+        assertParseFailure(parser, " OR name:Alice", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, "OR"));
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validFilePath_success() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + "setup.txt", new RunCommand("setup.txt"));
+        assertParseSuccess(parser, " " + PREFIX_FILE + " scripts/set up.txt ", new RunCommand("scripts/set up.txt"));
+    }
+
+    @Test
+    public void parse_missingFilePath_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_FILE, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " setup.txt", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " now " + PREFIX_FILE + "setup.txt", MESSAGE_INVALID_FORMAT);
+    }
+}
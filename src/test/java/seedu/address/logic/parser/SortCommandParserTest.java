@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.PersonSortOrder.Field;
+import seedu.address.model.person.PersonSortOrder.Key;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " name",
+                new SortCommand(new PersonSortOrder(List.of(new Key(Field.NAME, false)))));
+
+        // multiple fields with directions, in any case and with extra whitespace
+        assertParseSuccess(parser, " TEAM  name:DESC \t github:asc",
+                new SortCommand(new PersonSortOrder(List.of(new Key(Field.TEAM, false),
+                        new Key(Field.NAME, true), new Key(Field.GITHUB, false)))));
+
+        assertParseSuccess(parser, " " + SortCommand.ADDED_ORDER_KEYWORD, new SortCommand(PersonSortOrder.ADDED));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " phone", String.format(SortCommandParser.MESSAGE_UNKNOWN_FIELD, "phone"));
+        assertParseFailure(parser, " name:up", String.format(SortCommandParser.MESSAGE_UNKNOWN_DIRECTION, "up"));
+        assertParseFailure(parser, " name email name:desc",
+                String.format(SortCommandParser.MESSAGE_DUPLICATE_FIELD, "name"));
+
+        // the order added cannot be combined with fields
+        assertParseFailure(parser, " added name", String.format(SortCommandParser.MESSAGE_UNKNOWN_FIELD, "added"));
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+public class AddressBookHistoryTest {
+
+    private AddressBook addressBook;
+    private Team team;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        team = new Team("F12-3");
+        addressBook.addTeam(team);
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB);
+    }
+
+    @Test
+    public void undo_noChanges_throwsIllegalStateException() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 20, 1000);
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undoRedo_personAndTeamChanges_restoresEachState() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 20, 1000);
+        AddressBook initial = copyOf(addressBook);
+
+        Person amyInTeam = AMY.withTeam(team);
+        addressBook.setPerson(AMY, amyInTeam);
+        team.addPerson(amyInTeam);
+        addressBook.removePerson(BOB);
+        history.commit();
+        AddressBook afterFirstStep = copyOf(addressBook);
+
+        addressBook.addTeam(new Team("W08-1"));
+        addressBook.resetData(new AddressBook());
+        history.commit();
+
+        history.undo();
+        assertEquals(afterFirstStep, addressBook);
+        assertSame(team, addressBook.getTeamContainingPerson(amyInTeam));
+
+        history.undo();
+        assertEquals(initial, addressBook);
+        assertTrue(addressBook.hasPerson(BOB));
+        assertFalse(history.canUndo());
+
+        history.redo();
+        assertEquals(afterFirstStep, addressBook);
+        history.redo();
+        assertEquals(new AddressBook(), addressBook);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThem() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 20, 1000);
+        AddressBook initial = copyOf(addressBook);
+        addressBook.removePerson(AMY);
+
+        assertTrue(history.canUndo());
+        history.undo();
+        assertEquals(initial, addressBook);
+    }
+
+    @Test
+    public void rollback_noUncommittedChanges_returnsFalse() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 20, 1000);
+        addressBook.removePerson(AMY);
+        history.commit();
+
+        assertFalse(history.rollback());
+        assertFalse(addressBook.hasPerson(AMY));
+    }
+
+    @Test
+    public void rollback_uncommittedChanges_revertedAndForgotten() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 20, 1000);
+        addressBook.removePerson(AMY);
+        history.commit();
+        AddressBook committed = copyOf(addressBook);
+
+        team.addPerson(BOB);
+        addressBook.removePerson(BOB);
+        assertTrue(history.rollback());
+        assertEquals(committed, addressBook);
+        assertFalse(history.canRedo());
+
+        // Only the committed step is left to undo
+        history.undo();
+        assertFalse(history.canUndo());
+        assertTrue(addressBook.hasPerson(AMY));
+    }
+
+    @Test
+    public void commit_changesAfterUndo_cannotRedo() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 20, 1000);
+        addressBook.removePerson(AMY);
+        history.commit();
+        history.undo();
+        assertTrue(history.canRedo());
+
+        addressBook.removePerson(BOB);
+        history.commit();
+        assertFalse(history.canRedo());
+
+        // A commit without changes keeps what can be redone
+        history.undo();
+        history.commit();
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_moreThanMaxSteps_oldestStepsDropped() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 2, 1000);
+        addressBook.removePerson(AMY);
+        history.commit();
+        addressBook.removePerson(BOB);
+        history.commit();
+        addressBook.removeTeam(team);
+        history.commit();
+
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertFalse(addressBook.hasPerson(AMY));
+    }
+
+    @Test
+    public void commit_moreThanMaxElements_latestStepKept() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 20, 1);
+        addressBook.removePerson(AMY);
+        history.commit();
+        addressBook.resetData(new AddressBook());
+        history.commit();
+
+        history.undo();
+        assertFalse(history.canUndo());
+        assertTrue(addressBook.hasPerson(BOB));
+        assertFalse(addressBook.hasPerson(AMY));
+    }
+
+    /**
+     * Returns a copy of {@code source} with copies of its teams, which do not change with the teams of {@code source}.
+     */
+    private static AddressBook copyOf(AddressBook source) {
+        AddressBook copy = new AddressBook();
+        copy.setPersons(source.getPersonList());
+        copy.setTeams(source.getTeamList().stream().map(t -> new Team(t.getName(), t.getPersonList())).toList());
+        return copy;
+    }
+}
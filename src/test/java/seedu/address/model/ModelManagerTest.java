@@ -1,19 +1,41 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -21,6 +43,283 @@ public class ModelManagerTest {
 
     // ...existing tests...
 
+    @Test
+    public void getRevision_readsAndFilters_unchanged() {
+        long revision = modelManager.getRevision();
+        modelManager.hasPerson(ALICE);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.setGuiSettings(new GuiSettings(1, 2, 3, 4));
+        assertEquals(revision, modelManager.getRevision());
+    }
+
+    @Test
+    public void getRevision_rollbackWithoutChanges_unchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        long revision = modelManager.getRevision();
+
+        modelManager.rollbackAddressBook();
+        assertEquals(revision, modelManager.getRevision());
+
+        modelManager.deletePerson(ALICE);
+        modelManager.rollbackAddressBook();
+        assertTrue(modelManager.getRevision() > revision);
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getRevision_mutations_increases() {
+        long revision = modelManager.getRevision();
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getRevision() > revision);
+
+        revision = modelManager.getRevision();
+        modelManager.setPerson(ALICE, BENSON);
+        assertTrue(modelManager.getRevision() > revision);
+
+        revision = modelManager.getRevision();
+        modelManager.deletePerson(BENSON);
+        assertTrue(modelManager.getRevision() > revision);
+
+        revision = modelManager.getRevision();
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.getRevision() > revision);
+    }
+
+    @Test
+    public void updateFilteredPersonList_longList_sameAsSerialFilter() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < ModelManager.PARALLEL_FILTER_THRESHOLD; i++) {
+            addressBook.addPerson(new PersonBuilder().withName(i % 3 == 0 ? "Alice Tan" : "Bob Lee")
+                    .withPhone(String.format("9%07d", i)).withEmail("person" + i + "@example.com")
+                    .withGithub("person" + i).build());
+        }
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Predicate<Person> predicate = new NameContainsKeywordsPredicate(List.of("alice"), List.of());
+
+        modelManager.updateFilteredPersonList(predicate);
+        List<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, modelManager.getFilteredPersonList());
+
+        // persons replaced after filtering are tested with the predicate itself
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        Person editedAlice = new PersonBuilder(alice).withName("Carl Tan").build();
+        modelManager.setPerson(alice, editedAlice);
+        assertFalse(modelManager.getFilteredPersonList().contains(editedAlice));
+        Person bob = modelManager.getAddressBook().getPersonList().get(1);
+        Person editedBob = new PersonBuilder(bob).withName("Alice Lee").build();
+        modelManager.setPerson(bob, editedBob);
+        assertTrue(modelManager.getFilteredPersonList().contains(editedBob));
+    }
+
+    @Test
+    public void updateFilteredPersonList_longListOnUiThread_appliedWhenHandedBack() throws Exception {
+        AddressBook addressBook = getLongAddressBook();
+        BlockingQueue<Runnable> uiThreadTasks = new LinkedBlockingQueue<>();
+        modelManager = new ModelManager(addressBook, new UserPrefs(), () -> true, uiThreadTasks::add);
+        Predicate<Person> predicate = new NameContainsKeywordsPredicate(List.of("alice"), List.of());
+        List<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+
+        ObservableList<Person> shownPersons = modelManager.getFilteredPersonList();
+        modelManager.updateFilteredPersonList(predicate);
+        if (modelManager.isFilteringPersons()) {
+            // Persons are tested in the background, so the list shown is unchanged until the result is handed back
+            assertEquals(addressBook.getPersonList(), shownPersons);
+            uiThreadTasks.take().run();
+        }
+        assertFalse(modelManager.isFilteringPersons());
+        assertEquals(expected, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_whileFilteringOnUiThread_filterAppliedFirst() throws Exception {
+        AddressBook addressBook = getLongAddressBook();
+        BlockingQueue<Runnable> uiThreadTasks = new LinkedBlockingQueue<>();
+        modelManager = new ModelManager(addressBook, new UserPrefs(), () -> true, uiThreadTasks::add);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("alice"), List.of()));
+
+        Person bob = modelManager.getAddressBook().getPersonList().get(1);
+        Person editedBob = new PersonBuilder(bob).withName("Alice Lee").build();
+        modelManager.setPerson(bob, editedBob);
+        assertFalse(modelManager.isFilteringPersons());
+        assertTrue(modelManager.getFilteredPersonList().contains(editedBob));
+        assertFalse(modelManager.getFilteredPersonList().contains(addressBook.getPersonList().get(2)));
+
+        // a result handed back after the filter was applied changes nothing
+        List<Person> filtered = List.copyOf(modelManager.getFilteredPersonList());
+        for (Runnable task : uiThreadTasks) {
+            task.run();
+        }
+        assertEquals(filtered, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deleteCommand_whileFilteringOnUiThread_deletesFirstMatch() throws Exception {
+        AddressBook addressBook = getLongAddressBook();
+        // The result is never handed back, as if the UI thread were still busy
+        modelManager = new ModelManager(addressBook, new UserPrefs(), () -> true, task -> {});
+        Person firstMatch = addressBook.getPersonList().get(1);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("bob"), List.of()));
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(modelManager);
+
+        assertFalse(modelManager.hasPerson(firstMatch));
+        assertTrue(modelManager.hasPerson(addressBook.getPersonList().get(0)));
+    }
+
+    @Test
+    public void findCommand_longListOnUiThread_matchesCountedAtOnce() {
+        AddressBook addressBook = getLongAddressBook();
+        modelManager = new ModelManager(addressBook, new UserPrefs(), () -> true, task -> {});
+        ObservableList<Person> shownPersons = modelManager.getFilteredPersonList();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alice"), List.of());
+        List<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+
+        // The matches are found through the search index, so persons are not tested in the background
+        CommandResult result = new FindCommand(predicate).execute(modelManager);
+        assertFalse(modelManager.isFilteringPersons());
+        assertEquals(expected, shownPersons);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, expected.size()),
+                result.getFeedbackToUser());
+    }
+
+    private static AddressBook getLongAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < ModelManager.PARALLEL_FILTER_THRESHOLD; i++) {
+            addressBook.addPerson(new PersonBuilder().withName(i % 3 == 0 ? "Alice Tan" : "Bob Lee")
+                    .withPhone(String.format("9%07d", i)).withEmail("person" + i + "@example.com")
+                    .withGithub("person" + i).build());
+        }
+        return addressBook;
+    }
+
+    @Test
+    public void deletePerson_equalPersonWithAnotherId_removedFromTeam() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        Team team = modelManager.getTeamByName(alice.getTeamName());
+
+        modelManager.deletePerson(new PersonBuilder(alice).build());
+        assertFalse(team.hasPerson(alice));
+    }
+
+    @Test
+    public void setPerson_equalPersonWithAnotherId_replacedInTeam() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        Team team = modelManager.getTeamByName(alice.getTeamName());
+        Person editedAlice = new PersonBuilder(alice).withName("Alice Edited").build();
+
+        modelManager.setPerson(new PersonBuilder(alice).build(), editedAlice);
+        assertTrue(team.getPersonList().contains(editedAlice));
+        assertFalse(team.getPersonList().contains(alice));
+    }
+
+    @Test
+    public void getPublishedAddressBook_publishingNotEnabled_returnsEmpty() {
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.getPublishedAddressBook().isEmpty());
+    }
+
+    @Test
+    public void getPublishedAddressBook_publishingEnabled_changesOnlyWhenPublished() {
+        modelManager = new ModelManager(getTypicalAddressBook(), getPublishingUserPrefs());
+        ReadOnlyAddressBook initial = modelManager.getPublishedAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(initial));
+        assertPersonsInPublishedTeams();
+
+        modelManager.addPerson(AMY);
+        assertSame(initial, modelManager.getPublishedAddressBook().get());
+
+        modelManager.commitAddressBook();
+        ReadOnlyAddressBook published = modelManager.getPublishedAddressBook().get();
+        assertTrue(published.getPersonList().contains(AMY));
+        assertFalse(initial.getPersonList().contains(AMY));
+        assertUnmodifiable(published);
+    }
+
+    @Test
+    public void getPublishedAddressBook_teamMembersChanged_copiedTeamChangesWhenPublished() {
+        modelManager = new ModelManager(getTypicalAddressBook(), getPublishingUserPrefs());
+        ReadOnlyAddressBook initial = modelManager.getPublishedAddressBook().get();
+        Team team = modelManager.getTeamByName("F12-3");
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+
+        modelManager.removePersonFromTeam(alice, team);
+        modelManager.setPerson(alice, alice.withTeam(Team.NONE));
+        modelManager.commitAddressBook();
+
+        Team publishedTeam = modelManager.getPublishedAddressBook().get().getTeamList().get(0);
+        assertNotSame(team, publishedTeam);
+        assertEquals(team, publishedTeam);
+        assertEquals(3, initial.getTeamList().get(0).getPersonList().size());
+        assertEquals(2, publishedTeam.getPersonList().size());
+        assertPersonsInPublishedTeams();
+        for (Person member : publishedTeam.getPersonList()) {
+            assertTrue(modelManager.getPublishedAddressBook().get().getPersonList().stream()
+                    .anyMatch(person -> person == member));
+        }
+    }
+
+    @Test
+    public void getPublishedAddressBook_mixedChanges_sameAsAddressBook() {
+        modelManager = new ModelManager(getTypicalAddressBook(), getPublishingUserPrefs());
+        Team newTeam = new Team("T17-4");
+
+        modelManager.addPerson(AMY);
+        modelManager.addTeam(newTeam);
+        modelManager.deletePerson(modelManager.getAddressBook().getPersonList().get(1));
+        modelManager.commitAddressBook();
+        assertPublishedSameAsAddressBook();
+
+        Person amy = modelManager.getAddressBook().getPersonList().get(6);
+        modelManager.addPersonToTeam(amy.withTeam(newTeam), newTeam);
+        modelManager.setPerson(amy, amy.withTeam(newTeam));
+        modelManager.deleteTeam(modelManager.getTeamByName("W08-1"));
+        modelManager.setPerson(modelManager.getAddressBook().getPersonList().get(0), BOB);
+        modelManager.commitAddressBook();
+        assertPublishedSameAsAddressBook();
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        modelManager.commitAddressBook();
+        assertPublishedSameAsAddressBook();
+    }
+
+    private static UserPrefs getPublishingUserPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookPublishingEnabled(true);
+        return userPrefs;
+    }
+
+    private void assertPublishedSameAsAddressBook() {
+        ReadOnlyAddressBook published = modelManager.getPublishedAddressBook().get();
+        assertEquals(modelManager.getAddressBook().getPersonList(), published.getPersonList());
+        assertEquals(modelManager.getAddressBook().getTeamList(), published.getTeamList());
+        assertPersonsInPublishedTeams();
+    }
+
+    /**
+     * Asserts that the published persons and team members are in the published teams rather than the teams of the
+     * address book.
+     */
+    private void assertPersonsInPublishedTeams() {
+        ReadOnlyAddressBook published = modelManager.getPublishedAddressBook().get();
+        List<Team> teams = modelManager.getAddressBook().getTeamList();
+        for (Person person : published.getPersonList()) {
+            assertTrue(teams.stream().noneMatch(team -> team == person.getTeam()));
+        }
+        for (Team team : published.getTeamList()) {
+            team.getPersonList().stream()
+                    .filter(member -> member.getTeam().isSameTeamName(team))
+                    .forEach(member -> assertSame(team, member.getTeam()));
+        }
+    }
+
+    private static void assertUnmodifiable(ReadOnlyAddressBook addressBook) {
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getTeamList().clear());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
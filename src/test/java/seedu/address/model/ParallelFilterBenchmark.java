@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Predicate;
+
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex.MatchMode;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to filter a long person list with a predicate that is costly to test, between testing
+ * each person in turn and {@link ModelManager}'s parallel filtering, and the time the UI thread is kept waiting
+ * when the parallel filtering is run in the background.
+ * This is not run as part of the tests; run its {@code main} method to print the results.
+ */
+public class ParallelFilterBenchmark {
+
+    private static final int PERSON_COUNT = 200_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final String[] NAMES = {"Alice", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Yeoh"};
+
+    /**
+     * Runs the benchmark, optionally with the number of persons as the only argument.
+     */
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : PERSON_COUNT;
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName(NAMES[i % NAMES.length] + " " + NAMES[i / NAMES.length % NAMES.length])
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com")
+                    .withGithub("person" + i)
+                    .build());
+        }
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        FilteredList<Person> serialList = new FilteredList<>(model.getAddressBook().getPersonList());
+        // Layered in the same way as the model's list, so that only the filtering differs
+        new SortedList<>(serialList);
+        // Tested directly rather than through the search index, as an example of a costly predicate
+        Predicate<Person> predicate = new NameContainsKeywordsPredicate(List.of("Bernise", "Charlote"), List.of(),
+                List.of(), MatchMode.FUZZY);
+
+        System.out.printf("%d persons on %d processors%n", personCount, Runtime.getRuntime().availableProcessors());
+        long serialNanos = time(() -> serialList.setPredicate(predicate::test));
+        long parallelNanos = time(() -> model.updateFilteredPersonList(predicate::test));
+        if (serialList.size() != model.getFilteredPersonList().size()) {
+            throw new AssertionError("Results differ");
+        }
+        System.out.printf("serial %8.2f ms, parallel %8.2f ms, %d matches%n", serialNanos / 1e6,
+                parallelNanos / 1e6, serialList.size());
+
+        BlockingQueue<Runnable> uiThreadTasks = new LinkedBlockingQueue<>();
+        ModelManager uiModel = new ModelManager(addressBook, new UserPrefs(), () -> true, uiThreadTasks::add);
+        long[] waitingNanos = new long[1];
+        long backgroundNanos = time(() -> {
+            long start = System.nanoTime();
+            uiModel.updateFilteredPersonList(predicate::test);
+            waitingNanos[0] += System.nanoTime() - start;
+            if (uiModel.isFilteringPersons()) {
+                takeUninterruptibly(uiThreadTasks).run();
+            }
+        });
+        System.out.printf("background %8.2f ms until applied, UI thread waited %8.2f ms%n", backgroundNanos / 1e6,
+                waitingNanos[0] / 1e6 / (WARM_UP_ROUNDS + MEASURED_ROUNDS));
+    }
+
+    private static Runnable takeUninterruptibly(BlockingQueue<Runnable> tasks) {
+        try {
+            return tasks.take();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the average time taken by {@code filter}, which must apply a new predicate each time it is run.
+     */
+    private static long time(Runnable filter) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            filter.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            filter.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        tree.add("alice");
+        tree.add("alice");
+        tree.add("alise");
+
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void forEachWithin_emptyTree_findsNothing() {
+        Map<String, Integer> found = new HashMap<>();
+        tree.forEachWithin("alice", 3, found::put);
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    public void forEachWithin_sameWordsAsBruteForce() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            words.add(randomWord(random));
+        }
+        words.forEach(tree::add);
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String word : words) {
+                    int distance = StringUtil.editDistance(query, word, maxDistance);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+
+                Map<String, Integer> found = new HashMap<>();
+                tree.forEachWithin(query, maxDistance, found::put);
+                assertEquals(expected, found, query + " within " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void clear() {
+        tree.add("alice");
+        tree.clear();
+
+        assertEquals(0, tree.size());
+        Map<String, Integer> found = new HashMap<>();
+        tree.forEachWithin("alice", 0, found::put);
+        assertTrue(found.isEmpty());
+    }
+
+    /** Returns a short word over a small alphabet, so that many words are within a few edits of each other. */
+    private static String randomWord(Random random) {
+        char[] word = new char[3 + random.nextInt(5)];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('a' + random.nextInt(4));
+        }
+        return new String(word);
+    }
+}
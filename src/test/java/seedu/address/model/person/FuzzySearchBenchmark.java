@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to find the persons with a name word within a number of edits of a misspelt keyword,
+ * between looking the keyword up in a {@link PersonSearchIndex} and computing its distance to every name word.
+ * This is not run as part of the tests; run its {@code main} method to print the results.
+ */
+public class FuzzySearchBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int QUERY_COUNT = 200;
+    private static final String[] SYLLABLES = {"al", "be", "ca", "da", "el", "fi", "go", "ha", "in", "jo", "ka", "li",
+        "mo", "na", "or", "pa", "ri", "sa", "tu", "vi", "wen", "xi", "ya", "zo"};
+
+    /**
+     * Runs the benchmark, optionally with the number of persons as the only argument.
+     */
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : PERSON_COUNT;
+        Random random = new Random(42);
+        UniquePersonList persons = new UniquePersonList();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            String name = createWord(random) + " " + createWord(random);
+            names.add(name);
+            persons.add(new PersonBuilder()
+                    .withName(name)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com")
+                    .withGithub("person" + i)
+                    .build());
+        }
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String word = PersonSearchIndex.getWords(names.get(random.nextInt(names.size()))).get(0);
+            queries.add(misspell(word, random));
+        }
+
+        System.out.printf("%d persons, %d misspelt keywords%n", personCount, QUERY_COUNT);
+        for (int maxDistance = 1; maxDistance <= 2; maxDistance++) {
+            run(persons, queries, maxDistance);
+        }
+    }
+
+    private static void run(UniquePersonList persons, List<String> queries, int maxDistance) {
+        PersonSearchIndex index = persons.getSearchIndex();
+        long indexNanos = 0;
+        long scanNanos = 0;
+        long matches = 0;
+        for (String query : queries) {
+            long start = System.nanoTime();
+            Map<Person, Integer> indexed = index.findByNameWithin(query, maxDistance);
+            long looked = System.nanoTime();
+            Map<Person, Integer> scanned = scan(persons, query, maxDistance);
+            long scannedAt = System.nanoTime();
+            if (!indexed.equals(scanned)) {
+                throw new AssertionError("Results differ for " + query);
+            }
+            indexNanos += looked - start;
+            scanNanos += scannedAt - looked;
+            matches += indexed.size();
+        }
+
+        System.out.printf("within %d edits: BK-tree %8.1f us, scan %8.1f us per keyword, %.1f matches per keyword%n",
+                maxDistance, indexNanos / 1e3 / queries.size(), scanNanos / 1e3 / queries.size(),
+                (double) matches / queries.size());
+    }
+
+    private static Map<Person, Integer> scan(UniquePersonList persons, String keyword, int maxDistance) {
+        String foldedKeyword = PersonSearchIndex.foldCase(keyword);
+        Map<Person, Integer> result = new IdentityHashMap<>();
+        for (Person person : persons) {
+            for (String word : PersonSearchIndex.getWords(person.getName().fullName)) {
+                int distance = StringUtil.editDistance(PersonSearchIndex.foldCase(word), foldedKeyword, maxDistance);
+                if (distance <= maxDistance) {
+                    result.merge(person, distance, Math::min);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String createWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    /** Returns {@code word} with one letter replaced, as a user typing it quickly might. */
+    private static String misspell(String word, Random random) {
+        char[] letters = word.toCharArray();
+        letters[random.nextInt(letters.length)] = (char) ('a' + random.nextInt(26));
+        return new String(letters);
+    }
+}
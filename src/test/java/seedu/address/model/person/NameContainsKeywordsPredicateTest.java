@@ -1,14 +1,18 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.PersonSearchIndex.MatchMode;
 import seedu.address.model.team.Team;
 import seedu.address.testutil.PersonBuilder;
 
@@ -40,6 +44,10 @@ public class NameContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different match mode -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList,
+                Collections.emptyList(), Collections.emptyList(), MatchMode.PREFIX)));
     }
 
     @Test
@@ -102,6 +110,48 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withGithub("alice").build()));
     }
 
+    @Test
+    public void using_sameResultsAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Alice  Meier").withTeam(new Team("T14-2")).build());
+
+        List<List<String>> nameKeywordLists = List.of(List.of(), List.of("meier"), List.of("ALICE", "Kurz"),
+                List.of("Meie"), List.of("eie"), List.of("al"), List.of(" ", "Best"));
+        List<List<String>> githubKeywordLists = List.of(List.of(), List.of("bensonmeier"), List.of("MEIER", "car"));
+        List<List<String>> teamKeywordLists = List.of(List.of(), List.of("f12-3"), List.of("W08-1", "T14-2"));
+        for (MatchMode mode : MatchMode.values()) {
+            for (List<String> nameKeywords : nameKeywordLists) {
+                for (List<String> githubKeywords : githubKeywordLists) {
+                    for (List<String> teamKeywords : teamKeywordLists) {
+                        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(nameKeywords,
+                                githubKeywords, teamKeywords, mode);
+                        Predicate<Person> indexedPredicate = predicate.using(persons.getSearchIndex());
+                        for (Person person : persons) {
+                            assertEquals(predicate.test(person), indexedPredicate.test(person),
+                                    predicate + " " + person);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_prefixAndPartialMatchModes() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("ali"), List.of(),
+                List.of(), MatchMode.PREFIX);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Malice").build()));
+
+        predicate = new NameContainsKeywordsPredicate(List.of("ali"), List.of(), List.of(), MatchMode.PARTIAL);
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Malice").build()));
+
+        predicate = new NameContainsKeywordsPredicate(List.of(), List.of("PAUL"), List.of(), MatchMode.PARTIAL);
+        assertTrue(predicate.test(new PersonBuilder().withGithub("alicepauline").build()));
+        assertFalse(predicate.test(new PersonBuilder().withGithub("bensonmeier").build()));
+    }
+
     @Test
     public void toStringMethod_containsKeywords() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,158 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.PersonSearchIndex.MatchMode;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PersonSearchIndex index = uniquePersonList.getSearchIndex();
+
+    @Test
+    public void getPersonsWithNameWord_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getPersonsWithNameWord(null));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_ignoresCase() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(index.getPersonsWithNameWord("mEIER")));
+        assertEquals(Set.of(ALICE), Set.copyOf(index.getPersonsWithNameWord(" alice ")));
+        assertTrue(index.getPersonsWithNameWord("Meie").isEmpty());
+    }
+
+    @Test
+    public void getPersonsInTeam_ignoresCase() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        uniquePersonList.add(new PersonBuilder().build());
+
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(index.getPersonsInTeam("f12-3")));
+        assertTrue(index.getPersonsInTeam("").isEmpty());
+    }
+
+    @Test
+    public void findByName_matchModes() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(BENSON, DANIEL), index.findByName("MEI", MatchMode.PREFIX));
+        assertTrue(index.findByName("eier", MatchMode.PREFIX).isEmpty());
+        assertEquals(Set.of(BENSON, DANIEL), index.findByName("eier", MatchMode.PARTIAL));
+        assertEquals(Set.of(ALICE), index.findByName("li", MatchMode.PARTIAL));
+        assertTrue(index.findByName("Mei", MatchMode.WORD).isEmpty());
+        assertTrue(index.findByName(" ", MatchMode.PARTIAL).isEmpty());
+    }
+
+    @Test
+    public void findByGithub_matchModes() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(BENSON), index.findByGithub("BensonMeier", MatchMode.WORD));
+        assertEquals(Set.of(DANIEL), index.findByGithub("dan", MatchMode.PREFIX));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByGithub("meier", MatchMode.PARTIAL));
+    }
+
+    @Test
+    public void findByNameWithin_mapsToFewestEdits() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        assertEquals(Map.of(BENSON, 1, DANIEL, 1), index.findByNameWithin("MEYER", 1));
+        assertEquals(Map.of(ALICE, 2), index.findByNameWithin("Paulien", 2));
+        assertTrue(index.findByNameWithin("Paulien", 1).isEmpty());
+        assertEquals(Map.of(BENSON, 0), index.findByGithubWithin("bensonmeier", 0));
+        assertThrows(IllegalArgumentException.class, () -> index.findByNameWithin("Alice", -1));
+    }
+
+    @Test
+    public void findByNameWithin_removedWordsSkipped() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(DANIEL);
+
+        assertTrue(index.findByNameWithin("Meier", 1).isEmpty());
+        assertTrue(index.findByNameWithin("Benson", 1).isEmpty());
+        assertEquals(Map.of(ALICE, 1), index.findByNameWithin("Alise", 1));
+    }
+
+    @Test
+    public void contactLookups() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(ALICE), index.getPersonsWithEmail("ALICE@example.com"));
+        assertTrue(index.getPersonsWithEmail("nobody@example.com").isEmpty());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), Set.copyOf(index.getPersonsWithEmailDomain("Example.COM")));
+        assertEquals(Set.of(ALICE), index.findByPhonePrefix(ALICE.getPhone().value.substring(0, 4)));
+        assertTrue(index.findByPhonePrefix(" ").isEmpty());
+        assertEquals(Set.of(DANIEL), index.findByTeamName(teamName -> teamName.startsWith("w")));
+        assertEquals(Set.of(BENSON), index.getPersonsWithGithub(BENSON.getGithub().value.toUpperCase()));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void contactCounts_sameAsLookups() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        for (String prefix : List.of("9", ALICE.getPhone().value.substring(0, 4), "0", " ")) {
+            assertEquals(index.findByPhonePrefix(prefix).size(), index.countByPhonePrefix(prefix));
+        }
+        Predicate<String> startsWithF = teamName -> teamName.startsWith("f");
+        assertEquals(index.findByTeamName(startsWithF).size(), index.countByTeamName(startsWithF));
+        assertEquals(0, index.countByTeamName(teamName -> false));
+    }
+
+    @Test
+    public void listMutations_indexKeptInSync() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").withTeam(new Team("W08-1")).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertTrue(index.getPersonsWithNameWord("Alice").isEmpty());
+        assertTrue(index.getPersonsInTeam("F12-3").isEmpty());
+        assertEquals(Set.of(editedAlice), Set.copyOf(index.getPersonsWithNameWord("tan")));
+        assertEquals(Set.of(editedAlice), Set.copyOf(index.getPersonsInTeam("W08-1")));
+
+        assertTrue(index.findByName("Alic", MatchMode.PREFIX).contains(editedAlice));
+        assertTrue(index.findByName("ice", MatchMode.PARTIAL).isEmpty());
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(index.getPersonsWithNameWord("tan").isEmpty());
+        assertTrue(index.findByName("lici", MatchMode.PARTIAL).isEmpty());
+        assertTrue(index.getPersonsInTeam("W08-1").isEmpty());
+    }
+
+    @Test
+    public void listMutations_indexUpdatedBeforeListeners() {
+        List<Boolean> indexedWhenNotified = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                indexedWhenNotified.add(index.getPersonsWithNameWord("Alice").contains(ALICE)));
+
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Arrays.asList(true, false), indexedWhenNotified);
+    }
+
+    @Test
+    public void getWords() {
+        assertEquals(Arrays.asList("Alice", "Tan"), PersonSearchIndex.getWords(" Alice  Tan "));
+        assertTrue(PersonSearchIndex.getWords("  ").isEmpty());
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonSortOrder.Field;
+import seedu.address.model.person.PersonSortOrder.Key;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortOrderTest {
+
+    private static final Person NO_TEAM = new PersonBuilder().withName("Aaron Lim").build();
+
+    @Test
+    public void constructor_repeatedField_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonSortOrder(
+                List.of(new Key(Field.NAME, false), new Key(Field.NAME, true))));
+    }
+
+    @Test
+    public void fieldFromName() {
+        assertEquals(Field.GITHUB, Field.fromName("GitHub"));
+        assertEquals(Field.TEAM, Field.fromName("team"));
+        assertNull(Field.fromName("phone"));
+    }
+
+    @Test
+    public void compare_name_ignoresCase() {
+        Person lowerCase = new PersonBuilder(BENSON).withName("aaron Lim").build();
+        PersonSortOrder byName = new PersonSortOrder(List.of(new Key(Field.NAME, false)));
+        assertEquals(List.of(lowerCase, ALICE, BENSON), sorted(byName, BENSON, ALICE, lowerCase));
+
+        PersonSortOrder byNameDescending = new PersonSortOrder(List.of(new Key(Field.NAME, true)));
+        assertEquals(List.of(BENSON, ALICE, lowerCase), sorted(byNameDescending, ALICE, lowerCase, BENSON));
+    }
+
+    @Test
+    public void compare_team_personsWithoutTeamLast() {
+        // F12-3, T14-2, W08-1, then no team, in either direction
+        PersonSortOrder byTeam = new PersonSortOrder(List.of(new Key(Field.TEAM, false)));
+        assertEquals(List.of(ALICE, GEORGE, DANIEL, NO_TEAM), sorted(byTeam, NO_TEAM, DANIEL, ALICE, GEORGE));
+
+        PersonSortOrder byTeamDescending = new PersonSortOrder(List.of(new Key(Field.TEAM, true)));
+        assertEquals(List.of(DANIEL, GEORGE, ALICE, NO_TEAM),
+                sorted(byTeamDescending, NO_TEAM, ALICE, GEORGE, DANIEL));
+    }
+
+    @Test
+    public void compare_multipleKeys_laterKeysBreakTies() {
+        PersonSortOrder byTeamThenName = new PersonSortOrder(
+                List.of(new Key(Field.TEAM, false), new Key(Field.NAME, true)));
+        assertEquals(List.of(CARL, BENSON, ALICE, GEORGE, DANIEL),
+                sorted(byTeamThenName, ALICE, DANIEL, BENSON, GEORGE, CARL));
+
+        // persons equal by every key are ordered by email
+        Person aliceTwin = new PersonBuilder(ALICE).withEmail("aaa@example.com").build();
+        assertEquals(List.of(aliceTwin, ALICE), sorted(byTeamThenName, ALICE, aliceTwin));
+    }
+
+    @Test
+    public void compare_added_allEqual() {
+        assertTrue(PersonSortOrder.ADDED.isAdded());
+        assertEquals(0, PersonSortOrder.ADDED.compare(ALICE, BENSON));
+        assertEquals("order added", PersonSortOrder.ADDED.getDescription());
+    }
+
+    @Test
+    public void getDescription() {
+        PersonSortOrder sortOrder = new PersonSortOrder(
+                List.of(new Key(Field.TEAM, false), new Key(Field.GITHUB, true)));
+        assertEquals("team, then github (descending)", sortOrder.getDescription());
+    }
+
+    @Test
+    public void equals() {
+        PersonSortOrder byName = new PersonSortOrder(List.of(new Key(Field.NAME, false)));
+
+        // same values -> returns true
+        assertTrue(byName.equals(new PersonSortOrder(List.of(new Key(Field.NAME, false)))));
+
+        // same object -> returns true
+        assertTrue(byName.equals(byName));
+
+        // null -> returns false
+        assertFalse(byName.equals(null));
+
+        // different direction -> returns false
+        assertFalse(byName.equals(new PersonSortOrder(List.of(new Key(Field.NAME, true)))));
+
+        // different field -> returns false
+        assertFalse(byName.equals(new PersonSortOrder(List.of(new Key(Field.EMAIL, false)))));
+    }
+
+    private static List<Person> sorted(PersonSortOrder sortOrder, Person... persons) {
+        List<Person> list = new ArrayList<>(List.of(persons));
+        list.sort(sortOrder);
+        return list;
+    }
+}
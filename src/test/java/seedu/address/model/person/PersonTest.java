@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GITHUB_BOB;
@@ -12,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.team.Team;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -78,6 +80,24 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getId() {
+        // different persons -> different ids
+        assertNotEquals(ALICE.getId(), new PersonBuilder(ALICE).build().getId());
+
+        // edited versions -> same id
+        Person editedAlice = ALICE.withDetails(new Name(VALID_NAME_BOB), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getGithub());
+        assertEquals(ALICE.getId(), editedAlice.getId());
+        assertEquals(VALID_NAME_BOB, editedAlice.getName().fullName);
+        assertEquals(ALICE.getTeam(), editedAlice.getTeam());
+
+        Person movedAlice = editedAlice.withTeam(Team.NONE);
+        assertEquals(ALICE.getId(), movedAlice.getId());
+        assertEquals(Team.NONE, movedAlice.getTeam());
+        assertEquals(editedAlice.getName(), movedAlice.getName());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
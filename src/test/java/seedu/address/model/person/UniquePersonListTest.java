@@ -46,6 +46,43 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_identityReplacedBySetPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void containsExcluding_onlyMatchIsExcludedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withGithub(VALID_GITHUB_BOB).build();
+        assertFalse(uniquePersonList.containsExcluding(editedAlice, ALICE));
+    }
+
+    @Test
+    public void containsExcluding_matchesOtherPerson_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withGithub(VALID_GITHUB_BOB).build();
+        assertTrue(uniquePersonList.containsExcluding(editedAlice, ALICE));
+    }
+
+    @Test
+    public void hasPersonWithGithub_differentCase_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.hasPersonWithGithub(ALICE.getGithub().value));
+        assertFalse(uniquePersonList.hasPersonWithGithub(ALICE.getGithub().value.toUpperCase()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -108,6 +145,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_sameIdentityTakesOtherPersonsKeys_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        Person aliceWithBobGithub = new PersonBuilder(ALICE).withGithub(BOB.getGithub().value).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, aliceWithBobPhone));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, aliceWithBobGithub));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.hasPersonWithGithub(BOB.getGithub().value));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -118,6 +171,13 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withGithub(VALID_GITHUB_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -153,6 +213,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -161,6 +223,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithPersonsSharingOnlyOneIdentityField_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        Person bobWithAliceGithub = new PersonBuilder(BOB).withGithub(ALICE.getGithub().value.toUpperCase()).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(ALICE, bobWithAlicePhone)));
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(ALICE, bobWithAliceGithub)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,150 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryTest {
+
+    private static final Query TEAM_F12_3 = new FieldQuery(QueryField.TEAM, "f12-3");
+    private static final Query DOMAIN_EXAMPLE = new FieldQuery(QueryField.DOMAIN, "EXAMPLE.com");
+    private static final Query NAME_MEIER = new FieldQuery(QueryField.NAME, "meier");
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @BeforeEach
+    public void setUp() {
+        persons.setPersons(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Amy Meier").withEmail("amy@u.nus.edu").withPhone("81234567")
+                .withGithub("amymeier").withTeam(new Team("F12a-3")).build());
+    }
+
+    @Test
+    public void constructor_tooFewOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AndQuery(List.of(TEAM_F12_3)));
+        assertThrows(IllegalArgumentException.class, () -> new OrQuery(List.of(TEAM_F12_3)));
+    }
+
+    @Test
+    public void fieldQuery_test() {
+        Person amy = persons.asUnmodifiableObservableList().get(persons.size() - 1);
+        assertTrue(new FieldQuery(QueryField.EMAIL, "AMY@u.nus.edu").test(amy));
+        assertTrue(new FieldQuery(QueryField.DOMAIN, "u.nus.edu").test(amy));
+        assertFalse(new FieldQuery(QueryField.DOMAIN, "nus.edu").test(amy));
+        assertTrue(new FieldQuery(QueryField.PHONE, "812").test(amy));
+        assertFalse(new FieldQuery(QueryField.PHONE, "234").test(amy));
+        assertTrue(new FieldQuery(QueryField.GITHUB, "AmyMeier").test(amy));
+        assertTrue(new FieldQuery(QueryField.SLOT, "f12?-*").test(amy));
+        assertFalse(new FieldQuery(QueryField.SLOT, "F12-?").test(amy));
+        assertFalse(new FieldQuery(QueryField.SLOT, "*").test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void using_sameResultsAsTest() {
+        List<Query> clauses = List.of(TEAM_F12_3, DOMAIN_EXAMPLE, NAME_MEIER,
+                new FieldQuery(QueryField.EMAIL, "alice@example.com"), new FieldQuery(QueryField.PHONE, "9"),
+                new FieldQuery(QueryField.GITHUB, "carlkurz"), new FieldQuery(QueryField.SLOT, "?1*-?"),
+                new FieldQuery(QueryField.NAME, "nobody"));
+        for (Query first : clauses) {
+            for (Query second : clauses) {
+                List<Query> queries = List.of(first, new NotQuery(first), new AndQuery(List.of(first, second)),
+                        new OrQuery(List.of(first, second)), new AndQuery(List.of(first, new NotQuery(second))),
+                        new OrQuery(List.of(first, new NotQuery(second))),
+                        new NotQuery(new AndQuery(List.of(first, new OrQuery(List.of(second, NAME_MEIER))))));
+                for (Query query : queries) {
+                    assertSameResults(query);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void using_indexChanged_planAgain() {
+        Predicate<Person> predicate = NAME_MEIER.using(persons.getSearchIndex());
+        Person hoon = new PersonBuilder().withName("Hoon Meier").withEmail("hoon@example.com").withPhone("1234")
+                .withGithub("hoon").build();
+        assertFalse(predicate.test(hoon));
+
+        persons.add(hoon);
+        assertTrue(predicate.test(hoon));
+    }
+
+    @Test
+    public void using_andQuery_onlyMostSelectiveOperandFound() {
+        FindCountingQuery team = new FindCountingQuery(TEAM_F12_3);
+        FindCountingQuery domain = new FindCountingQuery(DOMAIN_EXAMPLE);
+        assertSameResults(new AndQuery(List.of(domain, team)));
+
+        assertEquals(1, team.finds);
+        assertEquals(0, domain.finds);
+    }
+
+    @Test
+    public void explain_andQuery_mostSelectiveFirst() {
+        Query query = new AndQuery(List.of(DOMAIN_EXAMPLE, TEAM_F12_3, new NotQuery(NAME_MEIER)));
+        List<String> lines = query.explain(persons.getSearchIndex());
+
+        assertEquals(List.of(
+                "AND, narrowing down the persons found by the most selective operand -> 2 persons",
+                "  team:f12-3 via team name index -> 3 persons",
+                "  NOT, testing each person -> about 5 persons",
+                "    name:meier via name word index -> 3 persons",
+                "  domain:EXAMPLE.com via email domain index -> 7 persons",
+                "Persons are listed by looking them up in the found persons."), lines);
+    }
+
+    @Test
+    public void explain_notQuery_eachPersonTested() {
+        List<String> lines = new NotQuery(TEAM_F12_3).explain(persons.getSearchIndex());
+
+        assertEquals("Each of the 8 persons is tested against the plan.", lines.get(lines.size() - 1));
+    }
+
+    private void assertSameResults(Query query) {
+        Predicate<Person> indexedQuery = query.using(persons.getSearchIndex());
+        for (Person person : persons) {
+            assertEquals(query.test(person), indexedQuery.test(person), query + " " + person);
+        }
+    }
+
+    /**
+     * A query that matches the same persons as another, and counts how many times its persons are found through the
+     * index.
+     */
+    private static class FindCountingQuery extends Query {
+        private final Query query;
+        private int finds;
+
+        FindCountingQuery(Query query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return query.test(person);
+        }
+
+        @Override
+        QueryPlan plan(PersonSearchIndex index) {
+            QueryPlan plan = query.plan(index);
+            return QueryPlan.found(query.toString(), plan.getEstimate(), () -> {
+                finds++;
+                return plan.getMatches();
+            }, List.of());
+        }
+    }
+}
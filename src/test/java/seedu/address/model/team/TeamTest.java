@@ -3,6 +3,7 @@ package seedu.address.model.team;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -15,6 +16,8 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.team.exceptions.TeamMaxCapacityException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -71,6 +74,19 @@ public class TeamTest {
         assertThrows(NullPointerException.class, () -> team.hasPerson(null));
     }
 
+    @Test
+    public void hasPerson_editedVersionOfMember_returnsTrue() {
+        team.addPerson(ALICE);
+        assertTrue(team.hasPerson(ALICE.withTeam(team)));
+    }
+
+    @Test
+    public void hasPerson_equalPersonWithAnotherId_returnsTrue() {
+        team.addPerson(ALICE);
+        assertTrue(team.hasPerson(new PersonBuilder(ALICE).build()));
+        assertFalse(team.hasPerson(BOB));
+    }
+
     @Test
     public void addPerson_validPerson_success() {
         team.addPerson(ALICE);
@@ -116,6 +132,59 @@ public class TeamTest {
         assertThrows(Exception.class, () -> team.removePerson(ALICE));
     }
 
+    @Test
+    public void setPerson_editedVersionOfMember_replacesMember() {
+        team.addPerson(ALICE);
+        team.addPerson(BOB);
+        Person editedAlice = ALICE.withTeam(team);
+        team.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BOB), team.getPersonList());
+        assertSame(editedAlice, team.getPersonList().get(0));
+    }
+
+    @Test
+    public void setPerson_personNotInTeam_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> team.setPerson(ALICE, ALICE));
+    }
+
+    @Test
+    public void setPerson_editedPersonSameAsOtherMember_throwsDuplicatePersonException() {
+        team.addPerson(ALICE);
+        team.addPerson(BOB);
+        assertThrows(DuplicatePersonException.class, () -> team.setPerson(ALICE, new PersonBuilder(BOB).build()));
+    }
+
+    @Test
+    public void removePerson_equalPersonWithAnotherId_removesMember() {
+        team.addPerson(ALICE);
+        team.addPerson(BOB);
+        team.removePerson(new PersonBuilder(ALICE).build());
+        assertEquals(Collections.singletonList(BOB), team.getPersonList());
+    }
+
+    @Test
+    public void setPerson_equalPersonWithAnotherId_replacesMember() {
+        team.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        team.setPerson(new PersonBuilder(ALICE).build(), editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), team.getPersonList());
+    }
+
+    @Test
+    public void removePerson_editedVersionOfMember_removesMember() {
+        team.addPerson(ALICE);
+        team.addPerson(BOB);
+        team.removePerson(ALICE.withTeam(Team.NONE));
+        assertEquals(Collections.singletonList(BOB), team.getPersonList());
+        assertTrue(team.hasPerson(BOB));
+    }
+
+    @Test
+    public void setPersons_duplicatePersons_throwsDuplicatePersonException() {
+        List<Person> persons = Arrays.asList(ALICE, new PersonBuilder(ALICE).withName("Other Alice").build());
+        assertThrows(DuplicatePersonException.class, () -> team.setPersons(persons));
+    }
+
     @Test
     public void setPersons_validList_success() {
         List<Person> persons = Arrays.asList(ALICE, BOB);
@@ -163,6 +232,31 @@ public class TeamTest {
         assertFalse(team1.equals(team2));
     }
 
+    @Test
+    public void equals_sameMembersInAnyOrder_returnsTrue() {
+        Team team1 = new Team("F12-3");
+        team1.setPersons(Arrays.asList(ALICE, BOB));
+        Team team2 = new Team("F12-3");
+        team2.setPersons(Arrays.asList(BOB, ALICE));
+        assertTrue(team1.equals(team2));
+        assertEquals(team1.hashCode(), team2.hashCode());
+
+        // equal members that are different persons -> returns true
+        Team team3 = new Team("F12-3");
+        team3.setPersons(Arrays.asList(new PersonBuilder(ALICE).build(), new PersonBuilder(BOB).build()));
+        assertTrue(team1.equals(team3));
+
+        // edited member -> returns false
+        Team team4 = new Team("F12-3");
+        team4.setPersons(Arrays.asList(ALICE.withTeam(Team.NONE), BOB));
+        assertFalse(team1.equals(team4));
+
+        // different number of members -> returns false
+        Team team5 = new Team("F12-3");
+        team5.addPerson(ALICE);
+        assertFalse(team1.equals(team5));
+    }
+
     @Test
     public void hashCode_differentTeams_differentHashCodes() {
         Team team1 = new Team("F12-3");
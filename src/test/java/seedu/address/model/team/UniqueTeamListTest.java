@@ -2,8 +2,12 @@ package seedu.address.model.team;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -11,8 +15,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniqueTeamListTest {
 
@@ -69,6 +76,69 @@ public class UniqueTeamListTest {
         assertEquals(team, uniqueTeamList.getTeamByName("F12-3"));
     }
 
+    @Test
+    public void getTeamContainingPerson_personNotInAnyTeam_returnsNull() {
+        uniqueTeamList.add(new Team("F12-3"));
+        assertNull(uniqueTeamList.getTeamContainingPerson(ALICE));
+    }
+
+    @Test
+    public void getTeamContainingPerson_memberAddedBeforeTeamAdded_returnsTeam() {
+        Team team = new Team("F12-3");
+        team.addPerson(ALICE);
+        uniqueTeamList.add(team);
+        assertSame(team, uniqueTeamList.getTeamContainingPerson(ALICE));
+    }
+
+    @Test
+    public void getTeamContainingPerson_memberAddedAfterTeamAdded_returnsTeam() {
+        Team team = new Team("F12-3");
+        uniqueTeamList.add(team);
+        team.addPerson(ALICE);
+        assertSame(team, uniqueTeamList.getTeamContainingPerson(ALICE));
+
+        // matched by id, which edited versions keep, not by full equality
+        Person editedAlice = ALICE.withDetails(new Name("Alice Edited"), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getGithub());
+        assertSame(team, uniqueTeamList.getTeamContainingPerson(editedAlice));
+
+        // an equal person created separately is found by email
+        assertSame(team, uniqueTeamList.getTeamContainingPerson(new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void getTeamContainingPerson_memberRemovedFromTeam_returnsNull() {
+        Team team = new Team("F12-3");
+        uniqueTeamList.add(team);
+        team.addPerson(ALICE);
+        team.removePerson(ALICE);
+        assertNull(uniqueTeamList.getTeamContainingPerson(ALICE));
+    }
+
+    @Test
+    public void getTeamContainingPerson_memberReplacedInTeam_returnsTeamForNewMemberOnly() {
+        Team team = new Team("F12-3");
+        uniqueTeamList.add(team);
+        team.addPerson(ALICE);
+        team.setPerson(ALICE, BOB);
+        assertNull(uniqueTeamList.getTeamContainingPerson(ALICE));
+        assertNull(uniqueTeamList.getTeamContainingPerson(new PersonBuilder(ALICE).build()));
+        assertSame(team, uniqueTeamList.getTeamContainingPerson(BOB));
+    }
+
+    @Test
+    public void getTeamContainingPerson_teamRemoved_returnsNull() {
+        Team team = new Team("F12-3");
+        team.addPerson(ALICE);
+        uniqueTeamList.add(team);
+        uniqueTeamList.remove(team);
+        assertNull(uniqueTeamList.getTeamContainingPerson(ALICE));
+
+        // changes to a removed team are no longer tracked
+        team.addPerson(BOB);
+        assertNull(uniqueTeamList.getTeamContainingPerson(BOB));
+    }
+
     @Test
     public void add_nullTeam_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTeamList.add(null));
@@ -118,6 +188,25 @@ public class UniqueTeamListTest {
         assertEquals(expectedUniqueTeamList, uniqueTeamList);
     }
 
+    @Test
+    public void setTeam_editedTeamHasDifferentName_updatesNameLookup() {
+        Team team = new Team("F12-3");
+        uniqueTeamList.add(team);
+        Team editedTeam = new Team("W08-1");
+        uniqueTeamList.setTeam(team, editedTeam);
+        assertFalse(uniqueTeamList.containsTeamWithName("F12-3"));
+        assertSame(editedTeam, uniqueTeamList.getTeamByName("W08-1"));
+    }
+
+    @Test
+    public void setTeam_targetTeamWithSameNameButDifferentMembers_throwsTeamNotFoundException() {
+        Team team = new Team("F12-3");
+        uniqueTeamList.add(team);
+        Team otherTeam = new Team("F12-3");
+        otherTeam.addPerson(ALICE);
+        assertThrows(TeamNotFoundException.class, () -> uniqueTeamList.setTeam(otherTeam, new Team("W08-1")));
+    }
+
     @Test
     public void setTeam_editedTeamHasNonUniqueName_throwsDuplicateTeamException() {
         Team team1 = new Team("F12-3");
@@ -147,6 +236,15 @@ public class UniqueTeamListTest {
         assertEquals(expectedUniqueTeamList, uniqueTeamList);
     }
 
+    @Test
+    public void remove_existingTeam_removesNameLookup() {
+        Team team = new Team("F12-3");
+        uniqueTeamList.add(team);
+        uniqueTeamList.remove(team);
+        assertFalse(uniqueTeamList.containsTeamWithName("F12-3"));
+        assertNull(uniqueTeamList.getTeamByName("F12-3"));
+    }
+
     @Test
     public void setTeams_nullUniqueTeamList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTeamList.setTeams((UniqueTeamList) null));
@@ -186,6 +284,21 @@ public class UniqueTeamListTest {
         assertThrows(DuplicateTeamException.class, () -> uniqueTeamList.setTeams(listWithDuplicateTeams));
     }
 
+    @Test
+    public void setTeams_listWithDuplicateTeamNames_throwsDuplicateTeamException() {
+        List<Team> listWithDuplicateNames = Arrays.asList(new Team("F12-3"), new Team("W08-1"), new Team("F12-3"));
+        assertThrows(DuplicateTeamException.class, () -> uniqueTeamList.setTeams(listWithDuplicateNames));
+    }
+
+    @Test
+    public void setTeams_list_replacesNameLookup() {
+        uniqueTeamList.add(new Team("F12-3"));
+        Team team = new Team("W08-1");
+        uniqueTeamList.setTeams(Collections.singletonList(team));
+        assertFalse(uniqueTeamList.containsTeamWithName("F12-3"));
+        assertSame(team, uniqueTeamList.getTeamByName("W08-1"));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to save and load a large address book, and the size of the data file, between
+ * {@link JsonAddressBookStorage} and {@link BinaryAddressBookStorage}.
+ * This is not run as part of the tests; run its {@code main} method to print the results.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int PERSON_COUNT = 20_000;
+    private static final int TEAM_SIZE = 5;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs the benchmark, optionally with the number of persons as the only argument.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : PERSON_COUNT;
+        AddressBook addressBook = createAddressBook(personCount);
+        Path folder = Files.createTempDirectory("storage-benchmark");
+
+        System.out.printf("Address book with %d persons and %d teams%n",
+                addressBook.getPersonList().size(), addressBook.getTeamList().size());
+        run("JSON", new JsonAddressBookStorage(folder.resolve("addressbook.json")), addressBook);
+        run("Binary", new BinaryAddressBookStorage(folder.resolve("addressbook.bin")), addressBook);
+    }
+
+    private static void run(String label, AddressBookStorage storage, ReadOnlyAddressBook addressBook)
+            throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            storage.saveAddressBook(addressBook);
+            storage.readAddressBook();
+        }
+
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            storage.readAddressBook();
+            long loaded = System.nanoTime();
+            saveNanos += saved - start;
+            loadNanos += loaded - saved;
+        }
+
+        System.out.printf("%-6s save %8.2f ms, load %8.2f ms, file size %,d bytes%n", label,
+                saveNanos / 1e6 / MEASURED_ROUNDS, loadNanos / 1e6 / MEASURED_ROUNDS,
+                Files.size(storage.getAddressBookFilePath()));
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        Team team = Team.NONE;
+        for (int i = 0; i < personCount; i++) {
+            if (i % TEAM_SIZE == 0) {
+                team = createTeam(i / TEAM_SIZE);
+                if (team != Team.NONE) {
+                    addressBook.addTeam(team);
+                }
+            }
+            Person person = new PersonBuilder()
+                    .withName("Person " + toLetters(i))
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com")
+                    .withGithub("person" + i)
+                    .withTeam(team)
+                    .build();
+            addressBook.addPerson(person);
+            if (team != Team.NONE) {
+                team.addPerson(person);
+            }
+        }
+        return addressBook;
+    }
+
+    /** Returns the team with the {@code index}-th valid team name, or no team once the names run out. */
+    static Team createTeam(int index) {
+        String[] sessions = {"W", "T", "F"};
+        String[] suffixes = {"", "a", "b"};
+        int teamNumber = index % 4 + 1;
+        int group = index / 4 % 10 + 8;
+        int suffix = index / 40 % 3;
+        int session = index / 120;
+        if (session >= sessions.length) {
+            return Team.NONE;
+        }
+        return new Team(String.format("%s%02d%s-%d", sessions[session], group, suffixes[suffix], teamNumber));
+    }
+
+    /** Returns {@code number} spelt with letters, since names cannot contain digits. */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertTrue(FileUtil.isFileExists(filePath));
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedAmy = new PersonBuilder(AMY).withName("Amy Tan").build();
+        original.addPerson(AMY);
+        original.setPerson(AMY, editedAmy);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(5, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_teamChanges_replayedFromJournal() throws Exception {
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        Team team = new Team("F09-1");
+        original.addTeam(team);
+        original.addPerson(AMY);
+        Person amyInTeam = new PersonBuilder(AMY).withTeam(team).build();
+        original.setPerson(AMY, amyInTeam);
+        team.addPerson(amyInTeam);
+        original.addPerson(BOB);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(1, readBack.getTeamByName("F09-1").getPersonList().size());
+
+        original.setPerson(amyInTeam, AMY);
+        original.removeTeam(team);
+        storage.saveAddressBook(original);
+        assertFalse(storage.readAddressBook().get().getTeamList().contains(team));
+    }
+
+    @Test
+    public void saveAddressBook_resetData_rewritesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(FileUtil.isFileExists(storage.getJournalFilePath()));
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(AMY);
+        original.resetData(replacement);
+        storage.saveAddressBook(original);
+
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 1);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(AMY);
+        storage.saveAddressBook(original);
+        assertTrue(FileUtil.isFileExists(storage.getJournalFilePath()));
+
+        original.addPerson(BOB);
+        storage.saveAddressBook(original);
+        assertFalse(FileUtil.isFileExists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareSave_earlierTaskSkipped_laterTaskWritesItsChanges() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.prepareSave(original); // snapshot that is never written
+        original.addPerson(AMY);
+        AddressBookStorage.SaveTask secondSave = storage.prepareSave(original);
+        original.addPerson(BOB);
+        AddressBookStorage.SaveTask thirdSave = storage.prepareSave(original);
+        original.removePerson(ALICE);
+
+        secondSave.run();
+        thirdSave.run();
+        original.addPerson(ALICE);
+        original.removePerson(ALICE);
+        storage.prepareSave(original).run();
+
+        assertTrue(FileUtil.isFileExists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalReplayedTwice_sameResult() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        original.addPerson(AMY);
+        original.setPerson(AMY, new PersonBuilder(AMY).withEmail("amy@example.com").build());
+        storage.saveAddressBook(original);
+
+        String journal = FileUtil.readFromFile(storage.getJournalFilePath());
+        FileUtil.appendToFile(storage.getJournalFilePath(), journal);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOlderThanSnapshot_notReplayed() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(AMY);
+        storage.saveAddressBook(original);
+        String journal = FileUtil.readFromFile(storage.getJournalFilePath());
+
+        // Crash after rewriting the snapshot but before clearing the journal
+        original.removePerson(AMY);
+        original.resetData(new AddressBook(original));
+        storage.saveAddressBook(original);
+        FileUtil.writeToFile(storage.getJournalFilePath(), journal);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotWithNullPerson_readLikePlainDataFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(AMY);
+        storage.saveAddressBook(original);
+
+        // Null entries are skipped when streaming a data file, so the snapshot must be read the same way
+        String snapshot = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, snapshot.replaceFirst("\"persons\" : \\[", "\"persons\" : [ null,"));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(AMY);
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"operation\":\"ADD_PE");
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        FileUtil.writeToFile(storage.getJournalFilePath(), "not a record\n{\"operation\":\"REMOVE_TEAM\","
+                + "\"key\":\"F12-3\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainJson() throws Exception {
+        Path otherPath = testFolder.resolve("Other.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherPath);
+
+        assertFalse(FileUtil.isFileExists(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -16,8 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.team.Team;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +64,37 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_teamsBeforePersons_success() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("teamsBeforePersonsAddressBook.json").get();
+        assertEquals(2, addressBook.getPersonList().size());
+        assertEquals(1, addressBook.getTeamList().size());
+        Team team = addressBook.getTeamList().get(0);
+        assertEquals(1, team.getPersonList().size());
+        assertSame(team, team.getPersonList().get(0).getTeam());
+    }
+
+    @Test
+    public void readAddressBook_undeclaredTeam_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("undeclaredTeamAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_emptyFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("Empty.json");
+        FileUtil.createFile(filePath);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_streamed_sameAsSerializedDocument() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the heap taken per person by a large roster whose persons each have their own {@code Name}, as when
+ * names were created for each person, with the same roster loaded from a data file, where equal names are shared.
+ * This is not run as part of the tests; run its {@code main} method to print the results. Heap sizes are measured
+ * after asking for garbage collection, so run it with nothing else in the JVM and a heap large enough for the roster.
+ */
+public class PersonFootprintBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int TEAM_SIZE = 5;
+    private static final String[] GIVEN_NAMES = {"Wei", "Jun", "Hui", "Ming", "Xin", "Li", "Jia", "Yi", "Kai",
+        "Hao", "Alex", "Ben", "Chloe", "Daniel", "Emma", "Farhan", "Grace", "Hannah", "Irfan", "Jasmine", "Kumar",
+        "Lucas", "Mei", "Nur", "Priya", "Rachel", "Siti", "Tan", "Vikram", "Zhi"};
+    private static final String[] SURNAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh",
+        "Teo", "Ang", "Yeo", "Tay", "Ho", "Low", "Toh", "Sim", "Chong", "Abdullah", "Kumar", "Singh", "Rahman",
+        "Pillai", "Fernandez"};
+
+    /**
+     * Runs the benchmark, optionally with the number of persons as the only argument.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : PERSON_COUNT;
+        Path file = Files.createTempDirectory("footprint-benchmark").resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+
+        long emptyHeap = usedHeap();
+        AddressBook unshared = createAddressBook(personCount);
+        long unsharedHeap = usedHeap() - emptyHeap;
+        storage.saveAddressBook(unshared);
+        System.out.printf("%d persons with %d distinct names%n", personCount, countDistinctNames(unshared));
+        unshared = null;
+
+        emptyHeap = usedHeap();
+        ReadOnlyAddressBook loaded = storage.readAddressBook().orElseThrow();
+        long loadedHeap = usedHeap() - emptyHeap;
+        if (loaded.getPersonList().size() != personCount) {
+            throw new AssertionError("Persons were lost");
+        }
+
+        System.out.printf("names per person   %,10d bytes in total, %6.1f bytes per person%n", unsharedHeap,
+                (double) unsharedHeap / personCount);
+        System.out.printf("shared names       %,10d bytes in total, %6.1f bytes per person%n", loadedHeap,
+                (double) loadedHeap / personCount);
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        Random random = new Random(42);
+        AddressBook addressBook = new AddressBook();
+        Team team = Team.NONE;
+        for (int i = 0; i < personCount; i++) {
+            if (i % TEAM_SIZE == 0) {
+                team = AddressBookStorageBenchmark.createTeam(i / TEAM_SIZE);
+                if (team != Team.NONE) {
+                    addressBook.addTeam(team);
+                }
+            }
+            String name = pick(random, GIVEN_NAMES) + " " + pick(random, SURNAMES);
+            if (random.nextBoolean()) {
+                name = pick(random, GIVEN_NAMES) + " " + name;
+            }
+            Person person = new PersonBuilder()
+                    .withName(name)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@u.nus.edu")
+                    .withGithub("person" + i)
+                    .withTeam(team)
+                    .build();
+            addressBook.addPerson(person);
+            if (team != Team.NONE) {
+                team.addPerson(person);
+            }
+        }
+        return addressBook;
+    }
+
+    private static String pick(Random random, String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+
+    private static int countDistinctNames(ReadOnlyAddressBook addressBook) {
+        Set<String> names = new HashSet<>();
+        addressBook.getPersonList().forEach(person -> names.add(person.getName().fullName));
+        return names.size();
+    }
+
+    /**
+     * Returns the heap in use once garbage has been collected, as far as the JVM allows.
+     */
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -2,9 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +69,83 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookAsync_modifiedAfterwards_savesStateAtCall() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+        CompletableFuture<Void> result = storageManager.saveAddressBookAsync(original);
+        original.addPerson(AMY);
+
+        result.get();
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookAsync_savesNotStarted_coalesced() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstSaveStarted.countDown();
+                    try {
+                        releaseFirstSave.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        AddressBook original = new AddressBook();
+        storageManager.saveAddressBookAsync(original);
+        firstSaveStarted.await();
+        original.addPerson(AMY);
+        CompletableFuture<Void> second = storageManager.saveAddressBookAsync(original);
+        original.addPerson(BOB);
+        CompletableFuture<Void> third = storageManager.saveAddressBookAsync(original);
+        assertSame(second, third);
+
+        releaseFirstSave.countDown();
+        storageManager.flush();
+        assertEquals(2, writeCount.get());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookAsync_storageThrows_failureReported() {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        CompletableFuture<Void> result = storageManager.saveAddressBookAsync(new AddressBook());
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertSame(failure, thrown.getCause());
+        assertThrows(IOException.class, storageManager::flush);
+        assertThrows(IOException.class, () -> storageManager.saveAddressBook(new AddressBook()));
+    }
+
+    @Test
+    public void exportAddressBook_binaryStorage_writesJson() throws Exception {
+        StorageManager binaryStorageManager = new StorageManager(
+                new BinaryAddressBookStorage(getTempFilePath("ab.bin")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook original = getTypicalAddressBook();
+        Path exportPath = getTempFilePath("export.json");
+        binaryStorageManager.exportAddressBook(original, exportPath);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportPath).readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());